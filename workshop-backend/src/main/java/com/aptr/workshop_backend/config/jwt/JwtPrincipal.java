@@ -0,0 +1,18 @@
+package com.aptr.workshop_backend.config.jwt;
+
+import com.aptr.workshop_backend.enums.Role;
+
+import java.time.Instant;
+
+/**
+ * The signed claims of a verified access token. This is the authentication principal for every
+ * request, so controllers can read the caller's id without looking the user up.
+ */
+public record JwtPrincipal(
+        String username,
+        Role role,
+        Long userId,
+        int tokenVersion,
+        Instant expiresAt
+) {
+}
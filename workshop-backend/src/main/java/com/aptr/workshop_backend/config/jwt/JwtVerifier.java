@@ -0,0 +1,128 @@
+package com.aptr.workshop_backend.config.jwt;
+
+import com.aptr.workshop_backend.enums.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses each bearer token once into a {@link JwtPrincipal}. Verified tokens are remembered by their
+ * SHA-256 hash until they expire, so repeat requests with the same token skip signature checking and
+ * claim parsing entirely. Every call is timed as {@code workshop.jwt.verification}, tagged with whether
+ * the token came from the cache, was verified or was rejected.
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtVerifier(JwtUtil jwtUtil,
+                       MeterRegistry meterRegistry,
+                       @Value("${workshop.security.verified-token-cache-size:10000}") long cacheSize) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+        this.cachedTimer = verificationTimer(meterRegistry, "cached");
+        this.verifiedTimer = verificationTimer(meterRegistry, "verified");
+        this.rejectedTimer = verificationTimer(meterRegistry, "rejected");
+    }
+
+    public JwtPrincipal verify(String token) {
+        long start = System.nanoTime();
+        String tokenHash = hash(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        try {
+            JwtPrincipal principal = parse(token);
+            verifiedTokens.put(tokenHash, principal);
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return principal;
+        } catch (RuntimeException e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private JwtPrincipal parse(String token) {
+        Claims claims = jwtUtil.parseClaims(token);
+        String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+        Number userId = claims.get(JwtUtil.USER_ID_CLAIM, Number.class);
+        Number tokenVersion = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Number.class);
+        if (claims.getSubject() == null || claims.getExpiration() == null
+                || role == null || userId == null || tokenVersion == null) {
+            // Also rejects tokens issued before the id and version claims existed
+            throw new JwtException("Token is missing required claims");
+        }
+        try {
+            return new JwtPrincipal(
+                    claims.getSubject(),
+                    Role.valueOf(role),
+                    userId.longValue(),
+                    tokenVersion.intValue(),
+                    claims.getExpiration().toInstant()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("Token has an unknown role: " + role);
+        }
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("workshop.jwt.verification")
+                .description("Bearer token verification, including cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiry implements Expiry<String, JwtPrincipal> {
+        @Override
+        public long expireAfterCreate(String tokenHash, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
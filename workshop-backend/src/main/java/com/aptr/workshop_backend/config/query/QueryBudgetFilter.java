@@ -0,0 +1,102 @@
+package com.aptr.workshop_backend.config.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the statements and database time of every request, including the ones issued by the security
+ * filters, and attributes them to the controller method that served it. Requests over the statement or
+ * database-time budget, or that repeat one statement often enough to suggest an N+1 access pattern, are
+ * logged as a single {@code key=value} warning. Per-endpoint statement counts and database time are also
+ * published as {@code workshop.request.statements} and {@code workshop.request.db.time}.
+ */
+@Component
+@ConditionalOnProperty(name = "workshop.query-monitor.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final Duration maxDbTime;
+    private final int repeatedStatementThreshold;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             @Value("${workshop.query-monitor.max-statements:15}") int maxStatements,
+                             @Value("${workshop.query-monitor.max-db-time:250ms}") Duration maxDbTime,
+                             @Value("${workshop.query-monitor.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxDbTime = maxDbTime;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCapture capture = QueryCapture.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            capture.close();
+            report(request, response, capture);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, QueryCapture capture) {
+        if (capture.statementCount() == 0) {
+            return;
+        }
+        String endpoint = endpoint(request);
+        DistributionSummary.builder("workshop.request.statements")
+                .description("Statements sent to the database while serving one request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(capture.statementCount());
+        meterRegistry.timer("workshop.request.db.time", "endpoint", endpoint).record(capture.dbTime());
+
+        Map<String, Integer> repeated = capture.repeatedStatements(repeatedStatementThreshold);
+        if (capture.statementCount() > maxStatements || capture.dbTime().compareTo(maxDbTime) > 0 || !repeated.isEmpty()) {
+            log.warn("Query budget exceeded endpoint={} method={} path={} status={} statements={} dbTimeMs={} repeated=[{}]",
+                    endpoint, request.getMethod(), request.getRequestURI(), response.getStatus(),
+                    capture.statementCount(), capture.dbTime().toMillis(), describe(repeated));
+        }
+    }
+
+    // Controller.method of the handler that served the request, or "none" when no handler matched
+    private static String endpoint(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+        }
+        return "none";
+    }
+
+    private static String describe(Map<String, Integer> repeated) {
+        return repeated.entrySet().stream()
+                .map(entry -> entry.getValue() + "x \"" + abbreviate(entry.getKey()) + "\"")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
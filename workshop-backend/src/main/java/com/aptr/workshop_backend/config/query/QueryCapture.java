@@ -0,0 +1,102 @@
+package com.aptr.workshop_backend.config.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Records every statement the current thread sends to the database while it is open: how many round
+ * trips, how long they took and how often each distinct SQL text ran. Captures nest, so a test can open
+ * one around a request that the {@link QueryBudgetFilter} is also capturing. Not thread-safe; a capture
+ * belongs to the thread that started it.
+ * <pre>{@code
+ * try (QueryCapture capture = QueryCapture.start()) {
+ *     workshopService.registeredWorkshops(attendeeId);
+ *     assert capture.statementCount() == 2;
+ * }
+ * }</pre>
+ */
+public final class QueryCapture implements AutoCloseable {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:, ?\\?)+\\)");
+    private static final ThreadLocal<List<QueryCapture>> ACTIVE = new ThreadLocal<>();
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statementCount;
+    private long dbNanos;
+
+    private QueryCapture() {
+    }
+
+    public static QueryCapture start() {
+        List<QueryCapture> captures = ACTIVE.get();
+        if (captures == null) {
+            captures = new ArrayList<>(2);
+            ACTIVE.set(captures);
+        }
+        QueryCapture capture = new QueryCapture();
+        captures.add(capture);
+        return capture;
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    static void record(String sql, long nanos) {
+        List<QueryCapture> captures = ACTIVE.get();
+        if (captures == null) {
+            return;
+        }
+        String normalized = normalize(sql);
+        for (QueryCapture capture : captures) {
+            capture.statementCount++;
+            capture.dbNanos += nanos;
+            capture.executions.merge(normalized, 1, Integer::sum);
+        }
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public Duration dbTime() {
+        return Duration.ofNanos(dbNanos);
+    }
+
+    /**
+     * Statements whose SQL ran at least {@code minExecutions} times, most frequent first. The same
+     * statement repeated once per row of an earlier result is the signature of an N+1 access pattern.
+     */
+    public Map<String, Integer> repeatedStatements(int minExecutions) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executions.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minExecutions)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    public Map<String, Integer> executions() {
+        return Collections.unmodifiableMap(executions);
+    }
+
+    @Override
+    public void close() {
+        List<QueryCapture> captures = ACTIVE.get();
+        if (captures != null && captures.remove(this) && captures.isEmpty()) {
+            ACTIVE.remove();
+        }
+    }
+
+    // Hibernate binds every value as a parameter, so only whitespace and IN-list lengths vary between runs
+    private static String normalize(String sql) {
+        return IN_LIST.matcher(WHITESPACE.matcher(sql.strip()).replaceAll(" ")).replaceAll("(?...)");
+    }
+}
@@ -0,0 +1,27 @@
+package com.aptr.workshop_backend.config.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the data source so every statement passes through {@link QueryCaptureListener}. The proxy
+ * unwraps to the Hikari pool, so pool metrics and settings keep working.
+ */
+@Component
+public class QueryCaptureDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new QueryCaptureListener())
+                    .build();
+        }
+        return bean;
+    }
+}
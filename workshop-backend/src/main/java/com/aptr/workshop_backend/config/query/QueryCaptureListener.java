@@ -0,0 +1,36 @@
+package com.aptr.workshop_backend.config.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds every statement execution into the {@link QueryCapture}s open on the executing thread. A JDBC
+ * batch is one round trip and is recorded once. Costs a thread-local lookup when nothing is capturing.
+ */
+class QueryCaptureListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = QueryCaptureListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (QueryCapture.isActive()) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        String sql = queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        QueryCapture.record(sql, System.nanoTime() - start);
+    }
+}
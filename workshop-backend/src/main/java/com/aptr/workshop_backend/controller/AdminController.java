@@ -1,11 +1,19 @@
 package com.aptr.workshop_backend.controller;
 
+import com.aptr.workshop_backend.config.jwt.JwtPrincipal;
 import com.aptr.workshop_backend.dto.*;
+import com.aptr.workshop_backend.enums.Role;
+import com.aptr.workshop_backend.exception.ServiceUnavailableException;
 import com.aptr.workshop_backend.service.AdminService;
+import com.aptr.workshop_backend.service.OutboxRelay;
+import com.aptr.workshop_backend.service.TokenRevocationService;
+import com.aptr.workshop_backend.service.WorkshopCatalogCache;
+import com.aptr.workshop_backend.service.WorkshopFeedbackStatsService;
 import com.aptr.workshop_backend.service.WorkshopStateUpdater;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,6 +26,10 @@ public class AdminController {
 
     private final AdminService adminService;
     private final WorkshopStateUpdater workshopStateUpdater;
+    private final WorkshopFeedbackStatsService workshopFeedbackStatsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final WorkshopCatalogCache workshopCatalogCache;
+    private final OutboxRelay outboxRelay;
 
     @PostMapping("/register")
     public ResponseEntity<String> addNewAdmin(@RequestBody AdminRegisterDto adminRegisterDto) {
@@ -34,6 +46,8 @@ public class AdminController {
                     .body("Invalid username or password");
             }
             return ResponseEntity.ok(accessTokenDto);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -41,6 +55,18 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<String> adminLogout(@AuthenticationPrincipal JwtPrincipal principal) {
+        tokenRevocationService.revokeAll(principal.role(), principal.userId());
+        return ResponseEntity.ok("Logged out of all sessions");
+    }
+
+    @PostMapping("/attendees/{attendeeId}/revoke-sessions")
+    public ResponseEntity<String> revokeAttendeeSessions(@PathVariable Long attendeeId) {
+        tokenRevocationService.revokeAll(Role.ATTENDEE, attendeeId);
+        return ResponseEntity.ok("All sessions of the attendee were revoked");
+    }
+
     @GetMapping()
     public ResponseEntity<List<AdminsDto>> allAdmins() {
         return new ResponseEntity<>(adminService.allAdmins(), HttpStatus.OK);
@@ -51,4 +77,36 @@ public class AdminController {
         Map<String, Integer> result = workshopStateUpdater.manualUpdate();
         return ResponseEntity.ok(result);
     }
+
+    @GetMapping("/catalog-cache")
+    public ResponseEntity<List<CatalogCacheStatsDto>> catalogCacheStats() {
+        return ResponseEntity.ok(workshopCatalogCache.stats());
+    }
+
+    @GetMapping("/outbox")
+    public ResponseEntity<OutboxStatsDto> outboxStats() {
+        return ResponseEntity.ok(outboxRelay.stats());
+    }
+
+    @GetMapping("/outbox/failed")
+    public ResponseEntity<List<OutboxFailureDto>> failedOutboxEvents() {
+        return ResponseEntity.ok(outboxRelay.failedEvents());
+    }
+
+    @PostMapping("/outbox/{eventId}/retry")
+    public ResponseEntity<String> retryOutboxEvent(@PathVariable Long eventId) {
+        outboxRelay.retryFailed(eventId);
+        return ResponseEntity.ok("Outbox event will be delivered again");
+    }
+
+    @PostMapping("/outbox/{eventId}/discard")
+    public ResponseEntity<String> discardOutboxEvent(@PathVariable Long eventId) {
+        outboxRelay.discardFailed(eventId);
+        return ResponseEntity.ok("Outbox event discarded");
+    }
+
+    @PostMapping("/rebuild-feedback-stats")
+    public ResponseEntity<Map<String, Integer>> rebuildFeedbackStats() {
+        return ResponseEntity.ok(Map.of("workshops", workshopFeedbackStatsService.rebuild()));
+    }
 }
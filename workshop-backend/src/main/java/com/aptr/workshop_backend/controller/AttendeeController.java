@@ -1,16 +1,19 @@
 package com.aptr.workshop_backend.controller;
 
+import com.aptr.workshop_backend.config.jwt.JwtPrincipal;
 import com.aptr.workshop_backend.dto.AttendeeAccessTokenDto;
 import com.aptr.workshop_backend.dto.AttendeeDto;
 import com.aptr.workshop_backend.dto.AttendeeLoginDto;
 import com.aptr.workshop_backend.dto.AttendeeRegisterDto;
 import com.aptr.workshop_backend.service.AttendeeService;
+import com.aptr.workshop_backend.service.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,6 +25,7 @@ import java.util.List;
 @Slf4j
 public class AttendeeController {
     private final AttendeeService attendeeService;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/signup")
     @PreAuthorize("permitAll()")
@@ -37,6 +41,13 @@ public class AttendeeController {
         return ResponseEntity.ok(token);
     }
 
+    @PostMapping("/logout")
+    @PreAuthorize("hasRole('ATTENDEE')")
+    public ResponseEntity<String> logout(@AuthenticationPrincipal JwtPrincipal principal) {
+        tokenRevocationService.revokeAll(principal.role(), principal.userId());
+        return ResponseEntity.ok("Logged out of all sessions");
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<AttendeeDto>> getAllAttendees() {
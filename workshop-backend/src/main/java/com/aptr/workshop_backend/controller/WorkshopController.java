@@ -2,16 +2,33 @@ package com.aptr.workshop_backend.controller;
 
 import com.aptr.workshop_backend.dto.*;
 import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
 import com.aptr.workshop_backend.exception.ResourceNotFoundException;
+import com.aptr.workshop_backend.service.AttendeeDashboardService;
+import com.aptr.workshop_backend.service.RegistrationExportService;
+import com.aptr.workshop_backend.service.WorkshopCatalogCache;
+import com.aptr.workshop_backend.service.WorkshopCheckInService;
+import com.aptr.workshop_backend.service.WorkshopFeedbackStatsService;
+import com.aptr.workshop_backend.service.WorkshopSearchService;
 import com.aptr.workshop_backend.service.WorkshopService;
+import com.aptr.workshop_backend.service.WorkshopVersionStamps;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,37 +36,96 @@ import java.util.List;
 @Slf4j
 public class WorkshopController {
     private final WorkshopService workshopService;
+    private final WorkshopFeedbackStatsService workshopFeedbackStatsService;
+    private final WorkshopCatalogCache workshopCatalogCache;
+    private final WorkshopVersionStamps workshopVersionStamps;
+    private final RegistrationExportService registrationExportService;
+    private final WorkshopSearchService workshopSearchService;
+    private final AttendeeDashboardService attendeeDashboardService;
+    private final WorkshopCheckInService workshopCheckInService;
 
     @PostMapping
     public ResponseEntity<String> addWorkshop(@RequestBody Workshop workshop) {
         return ResponseEntity.ok(workshopService.addWorkshop(workshop));
     }
 
+    // Catalog pages are served as cached JSON (a WorkshopPageDto), so a cache hit touches neither the database nor Jackson
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Workshop>> upcomingWorkshops() {
-        return ResponseEntity.ok(workshopService.upcomingWorkshops());
+    public ResponseEntity<byte[]> upcomingWorkshops(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, workshopVersionStamps.catalogETag(WorkshopState.UPCOMING),
+                () -> workshopCatalogCache.page(WorkshopState.UPCOMING, cursor, size,
+                        () -> workshopService.upcomingWorkshops(cursor, size)));
     }
 
     @GetMapping("/ongoing")
-    public ResponseEntity<List<Workshop>> ongoingWorkshops() {
-        return ResponseEntity.ok(workshopService.ongoingWorkshops());
+    public ResponseEntity<byte[]> ongoingWorkshops(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, workshopVersionStamps.catalogETag(WorkshopState.ONGOING),
+                () -> workshopCatalogCache.page(WorkshopState.ONGOING, cursor, size,
+                        () -> workshopService.ongoingWorkshops(cursor, size)));
     }
 
     @GetMapping("/completed")
-    public ResponseEntity<List<Workshop>> completedWorkshops() {
-        return ResponseEntity.ok(workshopService.completedWorkshops());
+    public ResponseEntity<byte[]> completedWorkshops(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, workshopVersionStamps.catalogETag(WorkshopState.COMPLETED),
+                () -> workshopCatalogCache.page(WorkshopState.COMPLETED, cursor, size,
+                        () -> workshopService.completedWorkshops(cursor, size)));
     }
 
-    @PostMapping("/register")
-    public ResponseEntity<?> registerAttendee(@RequestBody WorkshopRegistrationRequestDto dto) {
-        try {
-            String response = workshopService.registerAttendeeToWorkshop(dto);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(e.getMessage());
+    // Admin filtering on any combination of state, topic, tutor, date windows and the deleted flag
+    @GetMapping("/filter")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WorkshopFilterPageDto> filterWorkshops(WorkshopFilterDto filter,
+                                                                 @RequestParam(required = false) Integer page,
+                                                                 @RequestParam(required = false) Integer size,
+                                                                 @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(workshopService.filterWorkshops(filter, page, size, sort));
+    }
+
+    // Ranked full-text search over title, topic, objective, description and tutors, served from memory
+    @GetMapping("/search")
+    public ResponseEntity<WorkshopSearchResultDto> searchWorkshops(@RequestParam String q,
+                                                                   @RequestParam(required = false) WorkshopState state,
+                                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                   @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(workshopSearchService.search(q, state, from, to, size));
+    }
+
+    /**
+     * Answers a poll from the in-memory version stamp alone: the tag is taken before the body is loaded, so
+     * a matching If-None-Match returns 304 without a query, and a change racing the load only makes the
+     * tag older than the body, which costs the client one extra download rather than a stale page.
+     */
+    private <T> ResponseEntity<T> conditional(String ifNoneMatch, String tag, Supplier<T> body) {
+        ETag current = ETag.create(tag);
+        CacheControl revalidate = CacheControl.noCache().cachePrivate();
+        if (ifNoneMatch != null) {
+            for (ETag candidate : ETag.parse(ifNoneMatch)) {
+                if (candidate.isWildcard() || candidate.compare(current, false)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).cacheControl(revalidate).build();
+                }
+            }
         }
+        return ResponseEntity.ok().eTag(tag).cacheControl(revalidate).contentType(MediaType.APPLICATION_JSON).body(body.get());
+    }
+
+    // Left to GlobalExceptionHandler: a full workshop or a repeat registration is a 409, an unknown attendee or workshop a 404
+    @PostMapping("/register")
+    public ResponseEntity<String> registerAttendee(@RequestBody WorkshopRegistrationRequestDto dto) {
+        return ResponseEntity.ok(workshopService.registerAttendeeToWorkshop(dto));
+    }
+
+    @PostMapping("/register/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<BulkRegistrationResultDto>> bulkRegisterAttendees(
+            @RequestBody List<WorkshopRegistrationRequestDto> requests) {
+        return ResponseEntity.ok(workshopService.bulkRegisterAttendees(requests));
     }
 
     @DeleteMapping("/deregister")
@@ -71,18 +147,34 @@ public class WorkshopController {
     }
 
     @GetMapping("/pending-feedbacks/{attendeeId}")
-    public ResponseEntity<List<WorkshopDto>> getPendingFeedbacks(@PathVariable Long attendeeId) {
-        return ResponseEntity.ok(workshopService.getPendingFeedbacks(attendeeId));
+    public ResponseEntity<List<WorkshopDto>> getPendingFeedbacks(@PathVariable Long attendeeId,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, workshopVersionStamps.attendeeETag(attendeeId),
+                () -> workshopService.getPendingFeedbacks(attendeeId));
     }
 
     @GetMapping("/attended/{attendeeId}")
-    public ResponseEntity<List<WorkshopDto>> attendeeAttendedWorkshops(@PathVariable Long attendeeId) {
-        return ResponseEntity.ok(workshopService.getAttendedWorkshopsByAttendee(attendeeId));
+    public ResponseEntity<List<WorkshopDto>> attendeeAttendedWorkshops(@PathVariable Long attendeeId,
+                                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, workshopVersionStamps.attendeeETag(attendeeId),
+                () -> workshopService.getAttendedWorkshopsByAttendee(attendeeId));
     }
 
     @GetMapping("/registered/{attendeeId}")
-    public ResponseEntity<List<WorkshopDto>> attendeeRegisteredWorkshops(@PathVariable Long attendeeId) {
-        return ResponseEntity.ok(workshopService.getRegisteredWorkshopsByAttendee(attendeeId));
+    public ResponseEntity<List<WorkshopDto>> attendeeRegisteredWorkshops(@PathVariable Long attendeeId,
+                                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, workshopVersionStamps.attendeeETag(attendeeId),
+                () -> workshopService.getRegisteredWorkshopsByAttendee(attendeeId));
+    }
+
+    // One request for the attendee home screen; full=true returns complete workshops instead of summaries
+    @GetMapping("/dashboard/{attendeeId}")
+    public ResponseEntity<AttendeeDashboardDto<?>> attendeeDashboard(@PathVariable Long attendeeId,
+                                                                     @RequestParam(defaultValue = "false") boolean full,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(ifNoneMatch, workshopVersionStamps.attendeeETag(attendeeId),
+                () -> full ? attendeeDashboardService.fullDashboard(attendeeId)
+                        : attendeeDashboardService.compactDashboard(attendeeId));
     }
 
     @PatchMapping("/{workshopId}")
@@ -105,10 +197,44 @@ public class WorkshopController {
         return ResponseEntity.ok(response);
     }
 
+    // Door scans from an admin kiosk, answered from the in-memory roster; duplicates report ALREADY_CHECKED_IN
+    @PostMapping("/{workshopId}/check-ins")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CheckInResultDto>> checkIn(@PathVariable Long workshopId,
+                                                          @RequestBody CheckInRequestDto checkInRequestDto) {
+        return ResponseEntity.ok(workshopCheckInService.checkIn(workshopId, checkInRequestDto.attendeeIds()));
+    }
+
+    @GetMapping("/{workshopId}/headcount")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WorkshopHeadcountDto> headcount(@PathVariable Long workshopId) {
+        return ResponseEntity.ok(workshopCheckInService.headcount(workshopId));
+    }
+
+    // Streams the cohort as csv or ndjson instead of building the whole list in memory
+    @GetMapping("/{workshopId}/registrations/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportWorkshopRegistrations(@PathVariable Long workshopId,
+                                            @RequestParam(defaultValue = "csv") String format,
+                                            HttpServletResponse response) throws IOException {
+        registrationExportService.exportWorkshopRegistrations(workshopId,
+                registrationExportService.parseFormat(format), response);
+    }
+
+    @GetMapping("/registrations/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportAllRegistrations(@RequestParam(defaultValue = "csv") String format,
+                                       HttpServletResponse response) throws IOException {
+        registrationExportService.exportAllRegistrations(registrationExportService.parseFormat(format), response);
+    }
+
     @GetMapping("/feedback")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<WorkshopFeedbackDto>> getAllWorkshopFeedbacks() {
-        List<WorkshopFeedbackDto> feedbacks = workshopService.getAllWorkshopFeedbacks();
+    public ResponseEntity<List<WorkshopFeedbackDto>> getAllWorkshopFeedbacks(
+            @RequestParam(required = false) Long afterWorkshopId,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "true") boolean includeComments) {
+        List<WorkshopFeedbackDto> feedbacks = workshopService.getAllWorkshopFeedbacks(afterWorkshopId, size, includeComments);
         return ResponseEntity.ok(feedbacks);
     }
 
@@ -121,5 +247,10 @@ public class WorkshopController {
         }
         return ResponseEntity.ok(feedback);
     }
-}
 
+    @GetMapping("/feedback/{workshopId}/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WorkshopFeedbackStatsDto> getWorkshopFeedbackStats(@PathVariable Long workshopId) {
+        return ResponseEntity.ok(workshopFeedbackStatsService.getStats(workshopId));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.aptr.workshop_backend.dto;
+
+import java.util.List;
+
+// T is WorkshopSummaryDto for the compact dashboard and WorkshopDto for the full one
+public record AttendeeDashboardDto<T>(
+        Long attendeeId,
+        List<T> registered,
+        List<T> attended,
+        List<T> pendingFeedback,
+        List<T> upcoming
+) {}
@@ -0,0 +1,17 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+import java.time.LocalDate;
+
+// One registration of the attendee with just the workshop columns the compact dashboard shows
+public record AttendeeDashboardRowDto(
+        Long workshopId,
+        String workshopTitle,
+        String workshopTopic,
+        WorkshopState workshopState,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean attended,
+        Boolean feedbackGiven
+) {}
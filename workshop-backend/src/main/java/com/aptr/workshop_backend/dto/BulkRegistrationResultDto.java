@@ -0,0 +1,9 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.RegistrationOutcome;
+
+public record BulkRegistrationResultDto(
+        Long attendeeId,
+        Long workshopId,
+        RegistrationOutcome outcome
+) {}
@@ -0,0 +1,12 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+public record CatalogCacheStatsDto(
+        WorkshopState state,
+        long cachedPages,
+        long hits,
+        long misses,
+        long evictions,
+        double hitRate
+) {}
@@ -0,0 +1,8 @@
+package com.aptr.workshop_backend.dto;
+
+import java.util.List;
+
+// Attendee codes scanned at the door; a kiosk may send several at once
+public record CheckInRequestDto(
+        List<Long> attendeeIds
+) {}
@@ -0,0 +1,8 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.CheckInOutcome;
+
+public record CheckInResultDto(
+        Long attendeeId,
+        CheckInOutcome outcome
+) {}
@@ -0,0 +1,17 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.DomainEventType;
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+import java.time.Instant;
+
+public record DomainEventDto(
+        Long eventId,
+        DomainEventType eventType,
+        Long workshopId,
+        Long attendeeId,
+        Integer rating,
+        WorkshopState previousState,
+        WorkshopState workshopState,
+        Instant occurredAt
+) {}
@@ -0,0 +1,16 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.DomainEventType;
+
+import java.time.Instant;
+
+// An outbox event parked as FAILED, which holds back its workshop's later events until retried or discarded
+public record OutboxFailureDto(
+        Long eventId,
+        DomainEventType eventType,
+        Long workshopId,
+        Long attendeeId,
+        Instant occurredAt,
+        int attempts,
+        String lastError
+) {}
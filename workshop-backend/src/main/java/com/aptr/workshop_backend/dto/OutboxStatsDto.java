@@ -0,0 +1,8 @@
+package com.aptr.workshop_backend.dto;
+
+public record OutboxStatsDto(
+        long pending,
+        long failed,
+        long delivered,
+        long deliveryFailures
+) {}
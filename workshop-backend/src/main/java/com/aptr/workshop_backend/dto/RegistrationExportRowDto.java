@@ -0,0 +1,20 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+import java.util.Date;
+
+public record RegistrationExportRowDto(
+        Long registerId,
+        Long workshopId,
+        String workshopTitle,
+        WorkshopState workshopState,
+        Long attendeeId,
+        String attendeeName,
+        String attendeeEmail,
+        Date registrationTime,
+        Boolean attended,
+        Boolean feedbackGiven,
+        Integer rating,
+        String comment
+) {}
@@ -0,0 +1,9 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+public record RegistrationStatusDto(
+        Long registerId,
+        WorkshopState workshopState,
+        Boolean feedbackGiven
+) {}
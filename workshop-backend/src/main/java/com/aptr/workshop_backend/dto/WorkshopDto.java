@@ -1,5 +1,7 @@
 package com.aptr.workshop_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDate;
 import java.util.List;
 
@@ -12,5 +14,7 @@ public record WorkshopDto(
      String workshopDescription,
      String workshopInstructions,
      LocalDate startDate,
-     LocalDate endDate) {
+     LocalDate endDate,
+     Integer seatCapacity,
+     @JsonInclude(JsonInclude.Include.NON_NULL) Integer seatsBooked) {
 }
@@ -0,0 +1,13 @@
+package com.aptr.workshop_backend.dto;
+
+public record WorkshopFeedbackRowDto(
+        Long workshopId,
+        String attendeeName,
+        Integer rating,
+        String comment
+) {
+    // Used by the query variant that leaves comment bodies out
+    public WorkshopFeedbackRowDto(Long workshopId, String attendeeName, Integer rating) {
+        this(workshopId, attendeeName, rating, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.aptr.workshop_backend.dto;
+
+import java.util.List;
+
+public record WorkshopFeedbackStatsDto(
+        Long workshopId,
+        long feedbackCount,
+        Double averageRating,
+        Integer minRating,
+        Integer maxRating,
+        List<Long> ratingHistogram
+) {}
@@ -0,0 +1,12 @@
+package com.aptr.workshop_backend.dto;
+
+import java.time.LocalDate;
+
+public record WorkshopFeedbackSummaryDto(
+        Long workshopId,
+        String workshopTitle,
+        LocalDate startDate,
+        LocalDate endDate,
+        Double averageRating,
+        Long totalFeedbacks
+) {}
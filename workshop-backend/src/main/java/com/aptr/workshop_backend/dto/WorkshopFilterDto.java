@@ -0,0 +1,19 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public record WorkshopFilterDto(
+        WorkshopState state,
+        String topic,
+        String tutor,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+        Boolean deleted
+) {}
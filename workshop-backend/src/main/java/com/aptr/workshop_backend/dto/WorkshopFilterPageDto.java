@@ -0,0 +1,11 @@
+package com.aptr.workshop_backend.dto;
+
+import java.util.List;
+
+public record WorkshopFilterPageDto(
+        List<WorkshopDto> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {}
@@ -0,0 +1,7 @@
+package com.aptr.workshop_backend.dto;
+
+public record WorkshopHeadcountDto(
+        Long workshopId,
+        int registered,
+        int checkedIn
+) {}
@@ -0,0 +1,9 @@
+package com.aptr.workshop_backend.dto;
+
+import java.util.List;
+
+public record WorkshopPageDto(
+        List<WorkshopDto> content,
+        String nextCursor,
+        boolean hasNext
+) {}
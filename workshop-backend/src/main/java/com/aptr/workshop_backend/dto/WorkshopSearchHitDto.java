@@ -0,0 +1,15 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+import java.time.LocalDate;
+
+public record WorkshopSearchHitDto(
+        Long workshopId,
+        String workshopTitle,
+        String workshopTopic,
+        WorkshopState workshopState,
+        LocalDate startDate,
+        LocalDate endDate,
+        double score
+) {}
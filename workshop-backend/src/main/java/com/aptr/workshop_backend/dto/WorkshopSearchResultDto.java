@@ -0,0 +1,8 @@
+package com.aptr.workshop_backend.dto;
+
+import java.util.List;
+
+public record WorkshopSearchResultDto(
+        int totalMatches,
+        List<WorkshopSearchHitDto> hits
+) {}
@@ -0,0 +1,14 @@
+package com.aptr.workshop_backend.dto;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+import java.time.LocalDate;
+
+public record WorkshopSummaryDto(
+        Long workshopId,
+        String workshopTitle,
+        String workshopTopic,
+        WorkshopState workshopState,
+        LocalDate startDate,
+        LocalDate endDate
+) {}
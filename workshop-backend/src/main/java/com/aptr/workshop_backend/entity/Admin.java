@@ -18,4 +18,7 @@ public class Admin
     private String adminPassword;
     @Enumerated(EnumType.STRING)
     private Role role = Role.ADMIN;
+    // Embedded in every access token; bumping it revokes all tokens issued before
+    @Column(nullable = false)
+    private int tokenVersion = 0;
 }
@@ -29,4 +29,8 @@ public class Attendee {
     
     @Enumerated(EnumType.STRING)
     private Role role = Role.ATTENDEE;
+
+    // Embedded in every access token; bumping it revokes all tokens issued before
+    @Column(nullable = false)
+    private int tokenVersion = 0;
 }
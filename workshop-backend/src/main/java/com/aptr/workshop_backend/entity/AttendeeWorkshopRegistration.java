@@ -3,7 +3,9 @@ package com.aptr.workshop_backend.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.Date;
 
@@ -11,19 +13,29 @@ import java.util.Date;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "attendee_workshop_registrations")
+@Table(name = "attendee_workshop_registrations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_registration_attendee_workshop",
+                columnNames = {"attendee_id", "workshop_id"}))
 public class AttendeeWorkshopRegistration {
 
+    // Sequence ids (not IDENTITY) so Hibernate can batch registration inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registration_seq")
+    @SequenceGenerator(name = "registration_seq", sequenceName = "attendee_workshop_registrations_seq", allocationSize = 50)
     private Long registerId;
 
-    @ManyToOne
+    // Lazy so reading a registration never drags in the attendee's password hash or the workshop's long texts;
+    // read paths select what they need through projections or explicit fetches
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "attendee_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Attendee attendee;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workshop_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Workshop workshop;
 
     @Column(name = "registration_time", nullable = false)
@@ -0,0 +1,64 @@
+package com.aptr.workshop_backend.entity;
+
+import com.aptr.workshop_backend.enums.DomainEventType;
+import com.aptr.workshop_backend.enums.OutboxStatus;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_status_event", columnList = "status, event_id"),
+        @Index(name = "idx_outbox_workshop_event", columnList = "workshop_id, event_id")
+})
+public class OutboxEvent {
+
+    // IDENTITY on purpose: the id is assigned by the database at insert time, after the writer holds the
+    // workshop's row lock, so id order is commit order for the events of any one workshop
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventType eventType;
+
+    @Column(nullable = false)
+    private Long workshopId;
+
+    private Long attendeeId;
+
+    private Integer rating;
+
+    @Enumerated(EnumType.STRING)
+    private WorkshopState previousState;
+
+    @Enumerated(EnumType.STRING)
+    private WorkshopState workshopState;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // Set after a failed delivery; until then the event and everything after it for the same workshop wait
+    private Instant nextAttemptAt;
+
+    private Instant publishedAt;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,6 +14,15 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_workshop_state_listing",
+                columnList = "workshop_state, is_workshop_deleted, start_date, workshop_id"),
+        // Admin filters: the deleted flag is always constrained, so each date range is a range scan behind it
+        @Index(name = "idx_workshop_start_date", columnList = "is_workshop_deleted, start_date"),
+        @Index(name = "idx_workshop_end_date", columnList = "is_workshop_deleted, end_date"),
+        @Index(name = "idx_workshop_created_date", columnList = "is_workshop_deleted, created_date"),
+        @Index(name = "idx_workshop_topic", columnList = "workshop_topic, is_workshop_deleted, start_date")
+})
 public class Workshop {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,8 +33,11 @@ public class Workshop {
 
     private String workshopTopic;
 
+    // Tutors of a whole listing page load in one IN query instead of one query per workshop
     @ElementCollection
-    @CollectionTable(name = "workshop_tutors", joinColumns = @JoinColumn(name = "workshop_id"))
+    @BatchSize(size = 100)
+    @CollectionTable(name = "workshop_tutors", joinColumns = @JoinColumn(name = "workshop_id"),
+            indexes = @Index(name = "idx_workshop_tutor", columnList = "workshop_tutors, workshop_id"))
     private List<String> workshopTutors;
 
     private String workshopTitle;
@@ -44,4 +57,11 @@ public class Workshop {
     @Enumerated(EnumType.STRING)
     private WorkshopState workshopState;
 
+    // null means the workshop has no seat limit
+    private Integer seatCapacity;
+
+    // Only changed by the seat UPDATEs in WorkshopRepo, so saving a stale entity cannot reset the count
+    @Column(nullable = false, updatable = false)
+    private int seatsBooked = 0;
+
 }
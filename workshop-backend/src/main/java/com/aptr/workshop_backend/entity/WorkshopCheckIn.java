@@ -0,0 +1,43 @@
+package com.aptr.workshop_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Append-only log of door scans, one row per attendee and workshop; the unique key makes a repeated
+ * write of the same scan fail instead of counting twice.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "workshop_check_ins",
+        uniqueConstraints = @UniqueConstraint(name = "uk_check_in_workshop_attendee",
+                columnNames = {"workshop_id", "attendee_id"}))
+public class WorkshopCheckIn {
+
+    // Sequence ids so a flushed batch of scans is inserted with JDBC batching
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "check_in_seq")
+    @SequenceGenerator(name = "check_in_seq", sequenceName = "workshop_check_ins_seq", allocationSize = 50)
+    private Long checkInId;
+
+    @Column(name = "workshop_id", nullable = false)
+    private Long workshopId;
+
+    @Column(name = "attendee_id", nullable = false)
+    private Long attendeeId;
+
+    @Column(nullable = false)
+    private Instant checkedInAt;
+
+    public WorkshopCheckIn(Long workshopId, Long attendeeId, Instant checkedInAt) {
+        this.workshopId = workshopId;
+        this.attendeeId = attendeeId;
+        this.checkedInAt = checkedInAt;
+    }
+}
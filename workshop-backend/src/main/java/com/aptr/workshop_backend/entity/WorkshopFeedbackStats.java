@@ -0,0 +1,51 @@
+package com.aptr.workshop_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model of a workshop's ratings, kept up to date from the relayed FEEDBACK_SUBMITTED events so reports
+ * never aggregate over attendee_workshop_registrations.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "workshop_feedback_stats")
+public class WorkshopFeedbackStats {
+    @Id
+    private Long workshopId;
+
+    @Column(nullable = false)
+    private long feedbackCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    private Integer minRating;
+    private Integer maxRating;
+
+    // Histogram of ratings 0 to 5
+    @Column(nullable = false)
+    private long rating0Count;
+    @Column(nullable = false)
+    private long rating1Count;
+    @Column(nullable = false)
+    private long rating2Count;
+    @Column(nullable = false)
+    private long rating3Count;
+    @Column(nullable = false)
+    private long rating4Count;
+    @Column(nullable = false)
+    private long rating5Count;
+
+    // Id of the last feedback event counted in, so a redelivered event is not counted twice
+    @Column(nullable = false)
+    private long lastEventId;
+
+    public WorkshopFeedbackStats(Long workshopId) {
+        this.workshopId = workshopId;
+    }
+}
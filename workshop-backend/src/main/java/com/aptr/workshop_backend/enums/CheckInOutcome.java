@@ -0,0 +1,8 @@
+package com.aptr.workshop_backend.enums;
+
+public enum CheckInOutcome
+{
+    CHECKED_IN,
+    ALREADY_CHECKED_IN,
+    NOT_REGISTERED
+}
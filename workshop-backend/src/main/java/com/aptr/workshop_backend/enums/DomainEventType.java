@@ -0,0 +1,9 @@
+package com.aptr.workshop_backend.enums;
+
+public enum DomainEventType
+{
+    REGISTERED,
+    DEREGISTERED,
+    FEEDBACK_SUBMITTED,
+    WORKSHOP_STATE_CHANGED
+}
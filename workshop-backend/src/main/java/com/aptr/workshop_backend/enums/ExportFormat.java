@@ -0,0 +1,7 @@
+package com.aptr.workshop_backend.enums;
+
+public enum ExportFormat
+{
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,9 @@
+package com.aptr.workshop_backend.enums;
+
+public enum OutboxStatus
+{
+    PENDING,
+    PUBLISHED,
+    FAILED,
+    DISCARDED
+}
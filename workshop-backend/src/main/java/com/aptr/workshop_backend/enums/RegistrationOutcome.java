@@ -0,0 +1,12 @@
+package com.aptr.workshop_backend.enums;
+
+public enum RegistrationOutcome
+{
+    REGISTERED,
+    ALREADY_REGISTERED,
+    DUPLICATE_IN_REQUEST,
+    ATTENDEE_NOT_FOUND,
+    WORKSHOP_NOT_FOUND,
+    WORKSHOP_COMPLETED,
+    WORKSHOP_FULL
+}
@@ -19,5 +19,6 @@ public interface AdminMapper
     
     @Mapping(target = "adminId", ignore = true) 
     @Mapping(target = "role", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     Admin adminRegisterDtoToAdmin(AdminRegisterDto dto);
 }
@@ -4,12 +4,14 @@ import com.aptr.workshop_backend.dto.AttendeeDto;
 import com.aptr.workshop_backend.dto.AttendeeRegisterDto;
 import com.aptr.workshop_backend.entity.Attendee;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 @Mapper(componentModel = "spring")
 public interface AttendeeMapper {
     AttendeeMapper INSTANCE = Mappers.getMapper(AttendeeMapper.class);
 
+    @Mapping(target = "tokenVersion", ignore = true)
     Attendee attendeeRegisterDtoToAttendee(AttendeeRegisterDto dto);
     
     AttendeeDto attendeeToAttendeesDto(Attendee attendee);
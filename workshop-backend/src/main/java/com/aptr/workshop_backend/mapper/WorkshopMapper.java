@@ -12,7 +12,12 @@ public interface WorkshopMapper {
 
     WorkshopDto workshopToWorkshopDto(Workshop workshop);
 
+    // Attendee history lists leave out the booked seat count, which moves with every booking anywhere
+    @Mapping(target = "seatsBooked", ignore = true)
+    WorkshopDto workshopToAttendeeWorkshopDto(Workshop workshop);
+
     //This is for patching
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "seatsBooked", ignore = true)
     void updateWorkshopFromDto(WorkshopDto dto, @MappingTarget Workshop workshop);
 }
@@ -2,12 +2,29 @@ package com.aptr.workshop_backend.repository;
 
 import com.aptr.workshop_backend.entity.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 
 public interface AdminRepo extends JpaRepository<Admin, String> {
     Optional<Admin> findByAdminUserId(String adminUserId);
+
+    @Query("SELECT a.tokenVersion FROM Admin a WHERE a.adminId = :adminId")
+    Optional<Integer> findTokenVersion(@Param("adminId") Long adminId);
+
+    // Only replaces the hash it was computed from, so a concurrent password change is never overwritten
+    @Transactional
+    @Modifying
+    @Query("UPDATE Admin a SET a.adminPassword = :newHash WHERE a.adminId = :adminId AND a.adminPassword = :oldHash")
+    int replacePasswordHash(@Param("adminId") Long adminId, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    @Modifying
+    @Query("UPDATE Admin a SET a.tokenVersion = a.tokenVersion + 1 WHERE a.adminId = :adminId")
+    int incrementTokenVersion(@Param("adminId") Long adminId);
 }
 
 
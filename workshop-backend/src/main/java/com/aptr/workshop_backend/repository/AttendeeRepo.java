@@ -2,8 +2,14 @@ package com.aptr.workshop_backend.repository;
 
 import com.aptr.workshop_backend.entity.Attendee;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +18,20 @@ public interface AttendeeRepo extends JpaRepository<Attendee, Long> {
     Optional<Attendee> findByAttendeePhoneNumber(String attendeePhoneNumber);
     boolean existsByAttendeeEmail(String attendeeEmail);
     boolean existsByAttendeePhoneNumber(String attendeePhoneNumber);
+
+    @Query("SELECT a.attendeeId FROM Attendee a WHERE a.attendeeId IN :attendeeIds")
+    List<Long> findExistingIds(@Param("attendeeIds") Collection<Long> attendeeIds);
+
+    @Query("SELECT a.tokenVersion FROM Attendee a WHERE a.attendeeId = :attendeeId")
+    Optional<Integer> findTokenVersion(@Param("attendeeId") Long attendeeId);
+
+    // Only replaces the hash it was computed from, so a concurrent password change is never overwritten
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attendee a SET a.attendeePassword = :newHash WHERE a.attendeeId = :attendeeId AND a.attendeePassword = :oldHash")
+    int replacePasswordHash(@Param("attendeeId") Long attendeeId, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    @Modifying
+    @Query("UPDATE Attendee a SET a.tokenVersion = a.tokenVersion + 1 WHERE a.attendeeId = :attendeeId")
+    int incrementTokenVersion(@Param("attendeeId") Long attendeeId);
 }
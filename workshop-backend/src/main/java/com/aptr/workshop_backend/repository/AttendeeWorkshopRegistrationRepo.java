@@ -1,16 +1,25 @@
 package com.aptr.workshop_backend.repository;
 
+import com.aptr.workshop_backend.dto.AttendeeDashboardRowDto;
 import com.aptr.workshop_backend.dto.AttendeeResponseDto;
+import com.aptr.workshop_backend.dto.RegistrationStatusDto;
+import com.aptr.workshop_backend.dto.WorkshopFeedbackRowDto;
 import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.entity.Workshop;
 import com.aptr.workshop_backend.enums.WorkshopState;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface AttendeeWorkshopRegistrationRepo extends JpaRepository<AttendeeWorkshopRegistration, Long> {
+public interface AttendeeWorkshopRegistrationRepo extends JpaRepository<AttendeeWorkshopRegistration, Long>,
+        RegistrationExportQueries {
 
     @Query("SELECT new com.aptr.workshop_backend.dto.AttendeeResponseDto(" +
             "a.attendeeName, a.attendeeEmail, a.attendeePhoneNumber) " +
@@ -21,28 +30,83 @@ public interface AttendeeWorkshopRegistrationRepo extends JpaRepository<Attendee
 
     boolean existsByAttendee_AttendeeIdAndWorkshop_WorkshopId(Long attendeeId, Long workshopId);
 
-    List<AttendeeWorkshopRegistration> findByAttendee_AttendeeId(Long attendeeId);
-
-    Optional<AttendeeWorkshopRegistration> findByAttendee_AttendeeIdAndWorkshop_WorkshopId(Long attendeeId, Long workshopId);
-
-    @Query("SELECT r FROM AttendeeWorkshopRegistration r WHERE r.attendee.attendeeId = :attendeeId AND r.workshop.workshopState = :state AND (r.feedbackGiven IS NULL OR r.feedbackGiven = false)")
-    List<AttendeeWorkshopRegistration> findPendingFeedbacks(@Param("attendeeId") Long attendeeId,
-                                                            @Param("state") WorkshopState state);
-
-    @Query("SELECT r FROM AttendeeWorkshopRegistration r WHERE r.attendee.attendeeId = :attendeeId AND r.attended = true")
-    List<AttendeeWorkshopRegistration> findAttendedWorkshopsByAttendeeId(@Param("attendeeId") Long attendeeId);
-    
-    @Query("SELECT r FROM AttendeeWorkshopRegistration r " +
-           "WHERE r.feedbackGiven = true " +
-           "AND r.workshop.workshopId = :workshopId")
-    List<AttendeeWorkshopRegistration> findFeedbacksByWorkshopId(@Param("workshopId") Long workshopId);
-    
-    @Query("SELECT DISTINCT r.workshop.workshopId FROM AttendeeWorkshopRegistration r " +
-           "WHERE r.feedbackGiven = true")
-    List<Long> findWorkshopIdsWithFeedback();
-    
-    @Query("SELECT AVG(r.rating) FROM AttendeeWorkshopRegistration r " +
-           "WHERE r.workshop.workshopId = :workshopId AND r.feedbackGiven = true")
-    Double getAverageRatingForWorkshop(@Param("workshopId") Long workshopId);
+    @Query("SELECT r.attendee.attendeeId, r.workshop.workshopId FROM AttendeeWorkshopRegistration r " +
+           "WHERE r.workshop.workshopId IN :workshopIds AND r.attendee.attendeeId IN :attendeeIds")
+    List<Object[]> findRegisteredPairs(@Param("attendeeIds") Collection<Long> attendeeIds,
+                                       @Param("workshopIds") Collection<Long> workshopIds);
+
+    // The attendee's workshops only: no registration or attendee columns are read, and tutors arrive in one
+    // batched IN query instead of a fetch join that would repeat every workshop's long texts once per tutor
+    @Query("SELECT w FROM AttendeeWorkshopRegistration r JOIN r.workshop w " +
+           "WHERE r.attendee.attendeeId = :attendeeId ORDER BY w.startDate, w.workshopId")
+    List<Workshop> findRegisteredWorkshops(@Param("attendeeId") Long attendeeId);
+
+    // Only the first of concurrent submissions for a registration matches, so feedback is counted once
+    @Modifying
+    @Query("UPDATE AttendeeWorkshopRegistration r SET r.rating = :rating, r.comment = :comment, " +
+           "r.feedbackGiven = true " +
+           "WHERE r.registerId = :registerId AND (r.feedbackGiven IS NULL OR r.feedbackGiven = false)")
+    int recordFeedback(@Param("registerId") Long registerId,
+                       @Param("rating") Integer rating,
+                       @Param("comment") String comment);
+
+    // What feedback and deregistration decide on, without loading the registration, attendee or workshop
+    @Query("SELECT new com.aptr.workshop_backend.dto.RegistrationStatusDto(r.registerId, w.workshopState, r.feedbackGiven) " +
+           "FROM AttendeeWorkshopRegistration r JOIN r.workshop w " +
+           "WHERE r.attendee.attendeeId = :attendeeId AND w.workshopId = :workshopId")
+    Optional<RegistrationStatusDto> findRegistrationStatus(@Param("attendeeId") Long attendeeId,
+                                                           @Param("workshopId") Long workshopId);
+
+    @Modifying
+    @Query("DELETE FROM AttendeeWorkshopRegistration r WHERE r.registerId = :registerId")
+    int deleteByRegisterId(@Param("registerId") Long registerId);
+
+    // Check-in roster of a workshop: every registered attendee and whether they are already marked attended
+    @Query("SELECT r.attendee.attendeeId, r.attended FROM AttendeeWorkshopRegistration r " +
+           "WHERE r.workshop.workshopId = :workshopId")
+    List<Object[]> findCheckInRoster(@Param("workshopId") Long workshopId);
+
+    @Modifying
+    @Query("UPDATE AttendeeWorkshopRegistration r SET r.attended = true " +
+           "WHERE r.workshop.workshopId = :workshopId AND r.attendee.attendeeId IN :attendeeIds " +
+           "AND (r.attended IS NULL OR r.attended = false)")
+    int markAttended(@Param("workshopId") Long workshopId, @Param("attendeeIds") Collection<Long> attendeeIds);
+
+    @Query("SELECT w FROM AttendeeWorkshopRegistration r JOIN r.workshop w " +
+           "WHERE r.attendee.attendeeId = :attendeeId AND w.workshopState = :state " +
+           "AND (r.feedbackGiven IS NULL OR r.feedbackGiven = false) ORDER BY w.startDate, w.workshopId")
+    List<Workshop> findPendingFeedbackWorkshops(@Param("attendeeId") Long attendeeId,
+                                                @Param("state") WorkshopState state);
+
+    @Query("SELECT w FROM AttendeeWorkshopRegistration r JOIN r.workshop w " +
+           "WHERE r.attendee.attendeeId = :attendeeId AND r.attended = true ORDER BY w.startDate, w.workshopId")
+    List<Workshop> findAttendedWorkshops(@Param("attendeeId") Long attendeeId);
+
+    // Attendee dashboard: every registration in one pass, as a compact projection or with full workshops
+    @Query("SELECT new com.aptr.workshop_backend.dto.AttendeeDashboardRowDto(" +
+           "w.workshopId, w.workshopTitle, w.workshopTopic, w.workshopState, w.startDate, w.endDate, " +
+           "r.attended, r.feedbackGiven) " +
+           "FROM AttendeeWorkshopRegistration r JOIN r.workshop w " +
+           "WHERE r.attendee.attendeeId = :attendeeId ORDER BY w.startDate, w.workshopId")
+    List<AttendeeDashboardRowDto> findDashboardRows(@Param("attendeeId") Long attendeeId);
+
+    @EntityGraph(attributePaths = {"workshop"})
+    @Query("SELECT r FROM AttendeeWorkshopRegistration r WHERE r.attendee.attendeeId = :attendeeId " +
+           "ORDER BY r.workshop.startDate, r.workshop.workshopId")
+    List<AttendeeWorkshopRegistration> findDashboardRegistrations(@Param("attendeeId") Long attendeeId);
+
+    @Query("SELECT new com.aptr.workshop_backend.dto.WorkshopFeedbackRowDto(" +
+           "r.workshop.workshopId, a.attendeeName, r.rating, r.comment) " +
+           "FROM AttendeeWorkshopRegistration r JOIN r.attendee a " +
+           "WHERE r.feedbackGiven = true AND r.workshop.workshopId IN :workshopIds " +
+           "ORDER BY r.workshop.workshopId")
+    Stream<WorkshopFeedbackRowDto> streamFeedbackRows(@Param("workshopIds") Collection<Long> workshopIds);
+
+    @Query("SELECT new com.aptr.workshop_backend.dto.WorkshopFeedbackRowDto(" +
+           "r.workshop.workshopId, a.attendeeName, r.rating) " +
+           "FROM AttendeeWorkshopRegistration r JOIN r.attendee a " +
+           "WHERE r.feedbackGiven = true AND r.workshop.workshopId IN :workshopIds " +
+           "ORDER BY r.workshop.workshopId")
+    Stream<WorkshopFeedbackRowDto> streamFeedbackRowsWithoutComments(@Param("workshopIds") Collection<Long> workshopIds);
 }
 
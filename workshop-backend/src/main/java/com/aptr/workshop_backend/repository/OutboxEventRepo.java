@@ -0,0 +1,85 @@
+package com.aptr.workshop_backend.repository;
+
+import com.aptr.workshop_backend.dto.DomainEventDto;
+import com.aptr.workshop_backend.dto.OutboxFailureDto;
+import com.aptr.workshop_backend.entity.OutboxEvent;
+import com.aptr.workshop_backend.enums.OutboxStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepo extends JpaRepository<OutboxEvent, Long> {
+
+    // One statement for a whole batch of registrations; ids are still assigned by the database under the workshop locks
+    @Modifying
+    @Query("INSERT INTO OutboxEvent (eventType, workshopId, attendeeId, occurredAt, status, attempts) " +
+           "SELECT com.aptr.workshop_backend.enums.DomainEventType.REGISTERED, r.workshop.workshopId, " +
+           "r.attendee.attendeeId, :occurredAt, com.aptr.workshop_backend.enums.OutboxStatus.PENDING, 0 " +
+           "FROM AttendeeWorkshopRegistration r WHERE r.registerId IN :registerIds")
+    int insertRegisteredEvents(@Param("registerIds") Collection<Long> registerIds,
+                               @Param("occurredAt") Instant occurredAt);
+
+    // Skips every workshop whose oldest undelivered event is FAILED or waiting out its backoff, so none of
+    // its later events can overtake it
+    @Query("SELECT new com.aptr.workshop_backend.dto.DomainEventDto(e.eventId, e.eventType, e.workshopId, " +
+           "e.attendeeId, e.rating, e.previousState, e.workshopState, e.occurredAt) " +
+           "FROM OutboxEvent e WHERE e.status = com.aptr.workshop_backend.enums.OutboxStatus.PENDING " +
+           "AND NOT EXISTS (SELECT b.eventId FROM OutboxEvent b WHERE b.workshopId = e.workshopId " +
+           "AND b.eventId <= e.eventId AND (b.status = com.aptr.workshop_backend.enums.OutboxStatus.FAILED " +
+           "OR (b.status = com.aptr.workshop_backend.enums.OutboxStatus.PENDING AND b.nextAttemptAt > :now))) " +
+           "ORDER BY e.eventId")
+    List<DomainEventDto> findPending(@Param("now") Instant now, Limit limit);
+
+    @Query("SELECT new com.aptr.workshop_backend.dto.OutboxFailureDto(e.eventId, e.eventType, e.workshopId, " +
+           "e.attendeeId, e.occurredAt, e.attempts, e.lastError) " +
+           "FROM OutboxEvent e WHERE e.status = com.aptr.workshop_backend.enums.OutboxStatus.FAILED " +
+           "ORDER BY e.eventId")
+    List<OutboxFailureDto> findFailed();
+
+    @Query("SELECT e.attempts FROM OutboxEvent e WHERE e.eventId = :eventId")
+    int findAttempts(@Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.aptr.workshop_backend.enums.OutboxStatus.PUBLISHED, " +
+           "e.publishedAt = :publishedAt WHERE e.eventId IN :eventIds")
+    int markPublished(@Param("eventIds") Collection<Long> eventIds, @Param("publishedAt") Instant publishedAt);
+
+    // Parks the event as FAILED once it has used up its attempts; it keeps holding back its workshop until an admin resolves it
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.status = CASE WHEN e.attempts + 1 >= :maxAttempts THEN com.aptr.workshop_backend.enums.OutboxStatus.FAILED " +
+           "ELSE com.aptr.workshop_backend.enums.OutboxStatus.PENDING END " +
+           "WHERE e.eventId = :eventId")
+    int recordFailure(@Param("eventId") Long eventId, @Param("error") String error,
+                      @Param("nextAttemptAt") Instant nextAttemptAt, @Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.aptr.workshop_backend.enums.OutboxStatus.PENDING, " +
+           "e.attempts = 0, e.nextAttemptAt = NULL " +
+           "WHERE e.eventId = :eventId AND e.status = com.aptr.workshop_backend.enums.OutboxStatus.FAILED")
+    int retryFailed(@Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.aptr.workshop_backend.enums.OutboxStatus.DISCARDED " +
+           "WHERE e.eventId = :eventId AND e.status = com.aptr.workshop_backend.enums.OutboxStatus.FAILED")
+    int discardFailed(@Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.aptr.workshop_backend.enums.OutboxStatus.PUBLISHED " +
+           "AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+
+    long countByStatus(OutboxStatus status);
+}
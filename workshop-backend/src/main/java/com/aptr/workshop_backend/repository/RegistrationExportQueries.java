@@ -0,0 +1,18 @@
+package com.aptr.workshop_backend.repository;
+
+import com.aptr.workshop_backend.dto.AttendeeResponseDto;
+import com.aptr.workshop_backend.dto.RegistrationExportRowDto;
+
+import java.util.stream.Stream;
+
+/**
+ * Forward-only export queries. They live in a repository fragment rather than as {@code @Query} methods
+ * because the JDBC fetch size that makes the driver stream rows is database specific and has to come
+ * from configuration. Streams must be consumed inside a transaction and closed.
+ */
+public interface RegistrationExportQueries {
+
+    Stream<AttendeeResponseDto> streamAttendeesByWorkshopId(Long workshopId);
+
+    Stream<RegistrationExportRowDto> streamAllRegistrations();
+}
@@ -0,0 +1,48 @@
+package com.aptr.workshop_backend.repository;
+
+import com.aptr.workshop_backend.dto.AttendeeResponseDto;
+import com.aptr.workshop_backend.dto.RegistrationExportRowDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+class RegistrationExportQueriesImpl implements RegistrationExportQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+
+    RegistrationExportQueriesImpl(@Value("${workshop.export.fetch-size:500}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<AttendeeResponseDto> streamAttendeesByWorkshopId(Long workshopId) {
+        return entityManager.createQuery(
+                        "SELECT new com.aptr.workshop_backend.dto.AttendeeResponseDto(" +
+                        "a.attendeeName, a.attendeeEmail, a.attendeePhoneNumber) " +
+                        "FROM AttendeeWorkshopRegistration r JOIN r.attendee a " +
+                        "WHERE r.workshop.workshopId = :workshopId " +
+                        "ORDER BY r.registerId", AttendeeResponseDto.class)
+                .setParameter("workshopId", workshopId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<RegistrationExportRowDto> streamAllRegistrations() {
+        return entityManager.createQuery(
+                        "SELECT new com.aptr.workshop_backend.dto.RegistrationExportRowDto(" +
+                        "r.registerId, w.workshopId, w.workshopTitle, w.workshopState, " +
+                        "a.attendeeId, a.attendeeName, a.attendeeEmail, r.registrationTime, " +
+                        "r.attended, r.feedbackGiven, r.rating, r.comment) " +
+                        "FROM AttendeeWorkshopRegistration r JOIN r.workshop w JOIN r.attendee a " +
+                        "ORDER BY r.registerId", RegistrationExportRowDto.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,17 @@
+package com.aptr.workshop_backend.repository;
+
+import com.aptr.workshop_backend.entity.WorkshopCheckIn;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WorkshopCheckInRepo extends JpaRepository<WorkshopCheckIn, Long> {
+
+    @Query("SELECT c.attendeeId FROM WorkshopCheckIn c " +
+           "WHERE c.workshopId = :workshopId AND c.attendeeId IN :attendeeIds")
+    List<Long> findCheckedInAttendeeIds(@Param("workshopId") Long workshopId,
+                                        @Param("attendeeIds") Collection<Long> attendeeIds);
+}
@@ -0,0 +1,62 @@
+package com.aptr.workshop_backend.repository;
+
+import com.aptr.workshop_backend.dto.WorkshopFeedbackSummaryDto;
+import com.aptr.workshop_backend.entity.WorkshopFeedbackStats;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkshopFeedbackStatsRepo extends JpaRepository<WorkshopFeedbackStats, Long> {
+
+    @Modifying
+    @Query("UPDATE WorkshopFeedbackStats s SET " +
+           "s.feedbackCount = s.feedbackCount + 1, " +
+           "s.ratingSum = s.ratingSum + :rating, " +
+           "s.minRating = CASE WHEN s.minRating IS NULL OR :rating < s.minRating THEN :rating ELSE s.minRating END, " +
+           "s.maxRating = CASE WHEN s.maxRating IS NULL OR :rating > s.maxRating THEN :rating ELSE s.maxRating END, " +
+           "s.rating0Count = s.rating0Count + CASE WHEN :rating = 0 THEN 1 ELSE 0 END, " +
+           "s.rating1Count = s.rating1Count + CASE WHEN :rating = 1 THEN 1 ELSE 0 END, " +
+           "s.rating2Count = s.rating2Count + CASE WHEN :rating = 2 THEN 1 ELSE 0 END, " +
+           "s.rating3Count = s.rating3Count + CASE WHEN :rating = 3 THEN 1 ELSE 0 END, " +
+           "s.rating4Count = s.rating4Count + CASE WHEN :rating = 4 THEN 1 ELSE 0 END, " +
+           "s.rating5Count = s.rating5Count + CASE WHEN :rating = 5 THEN 1 ELSE 0 END, " +
+           "s.lastEventId = :eventId " +
+           "WHERE s.workshopId = :workshopId AND s.lastEventId < :eventId")
+    int recordRating(@Param("eventId") Long eventId, @Param("workshopId") Long workshopId, @Param("rating") int rating);
+
+    // Starts each workshop past its latest feedback event, so the relay does not count the same rating twice
+    @Modifying
+    @Query("INSERT INTO WorkshopFeedbackStats (workshopId, feedbackCount, ratingSum, minRating, maxRating, " +
+           "rating0Count, rating1Count, rating2Count, rating3Count, rating4Count, rating5Count, lastEventId) " +
+           "SELECT r.workshop.workshopId, COUNT(r), COALESCE(SUM(r.rating), 0), MIN(r.rating), MAX(r.rating), " +
+           "SUM(CASE WHEN r.rating = 0 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END), " +
+           "COALESCE((SELECT MAX(e.eventId) FROM OutboxEvent e WHERE e.workshopId = r.workshop.workshopId " +
+           "AND e.eventType = com.aptr.workshop_backend.enums.DomainEventType.FEEDBACK_SUBMITTED), 0) " +
+           "FROM AttendeeWorkshopRegistration r WHERE r.feedbackGiven = true " +
+           "GROUP BY r.workshop.workshopId")
+    int insertFromRegistrations();
+
+    String SUMMARY_SELECT = "SELECT new com.aptr.workshop_backend.dto.WorkshopFeedbackSummaryDto(" +
+            "w.workshopId, w.workshopTitle, w.startDate, w.endDate, " +
+            "CAST(s.ratingSum AS double) / s.feedbackCount, s.feedbackCount) " +
+            "FROM WorkshopFeedbackStats s JOIN Workshop w ON w.workshopId = s.workshopId " +
+            "WHERE s.feedbackCount > 0 ";
+
+    @Query(SUMMARY_SELECT + "AND s.workshopId > :afterWorkshopId ORDER BY s.workshopId")
+    List<WorkshopFeedbackSummaryDto> findSummaries(@Param("afterWorkshopId") Long afterWorkshopId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "AND s.workshopId = :workshopId")
+    Optional<WorkshopFeedbackSummaryDto> findSummary(@Param("workshopId") Long workshopId);
+}
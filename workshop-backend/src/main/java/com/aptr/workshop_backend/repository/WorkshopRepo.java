@@ -2,14 +2,24 @@ package com.aptr.workshop_backend.repository;
 
 import com.aptr.workshop_backend.entity.Workshop;
 import com.aptr.workshop_backend.enums.WorkshopState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface WorkshopRepo extends JpaRepository<Workshop, Long> {
+public interface WorkshopRepo extends JpaRepository<Workshop, Long>, JpaSpecificationExecutor<Workshop> {
     Optional<Workshop> findByWorkshopId(Long workshopId);
     List<Workshop> findByWorkshopState(WorkshopState workshopState);
 
@@ -19,6 +29,78 @@ public interface WorkshopRepo extends JpaRepository<Workshop, Long> {
     Optional<Workshop> findByWorkshopIdAndIsWorkshopDeletedFalse(Long workshopId);
     List<Workshop> findByWorkshopStateAndIsWorkshopDeletedFalse(WorkshopState workshopState);
     List<Workshop> findByIsWorkshopDeletedFalse();
+
+    // Workshops whose stored state no longer matches their dates, locked in id order so each transition
+    // is applied and announced exactly once even when the scheduler and a manual update overlap
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Workshop w WHERE w.isWorkshopDeleted = false AND (" +
+           "(w.endDate < :today AND (w.workshopState IS NULL OR " +
+           "w.workshopState <> com.aptr.workshop_backend.enums.WorkshopState.COMPLETED)) OR " +
+           "(w.startDate <= :today AND w.endDate >= :today AND (w.workshopState IS NULL OR " +
+           "w.workshopState <> com.aptr.workshop_backend.enums.WorkshopState.ONGOING)) OR " +
+           "(w.startDate > :today AND (w.workshopState IS NULL OR " +
+           "w.workshopState <> com.aptr.workshop_backend.enums.WorkshopState.UPCOMING))) " +
+           "ORDER BY w.workshopId")
+    List<Workshop> findStaleStatesForUpdate(@Param("today") LocalDate today);
+
+    @Query("SELECT w.workshopId, w.startDate, w.endDate FROM Workshop w WHERE w.isWorkshopDeleted = false " +
+           "AND (w.workshopState IS NULL OR w.workshopState <> com.aptr.workshop_backend.enums.WorkshopState.COMPLETED)")
+    List<Object[]> findActiveWindows();
+
+    // Search index build: scalar columns and tutors are streamed separately so no entity or collection is loaded
+    @Query("SELECT w.workshopId, w.workshopTitle, w.workshopTopic, w.workshopObjective, w.workshopDescription, " +
+           "w.startDate, w.endDate FROM Workshop w WHERE w.isWorkshopDeleted = false")
+    Stream<Object[]> streamActiveSearchFields();
+
+    @Query("SELECT w.workshopId, t FROM Workshop w JOIN w.workshopTutors t WHERE w.isWorkshopDeleted = false")
+    Stream<Object[]> streamActiveTutors();
+
+    @Query("SELECT w.workshopState, COUNT(w) FROM Workshop w WHERE w.isWorkshopDeleted = false GROUP BY w.workshopState")
+    List<Object[]> countActiveByState();
+
+    // Keyset pages over idx_workshop_state_listing, ordered by (startDate, workshopId)
+    @Query("SELECT w FROM Workshop w WHERE w.workshopState = :state AND w.isWorkshopDeleted = false " +
+           "ORDER BY w.startDate, w.workshopId")
+    List<Workshop> findFirstPageByState(@Param("state") WorkshopState state, Limit limit);
+
+    @Query("SELECT w FROM Workshop w WHERE w.workshopState = :state AND w.isWorkshopDeleted = false " +
+           "AND (w.startDate > :afterStartDate OR (w.startDate = :afterStartDate AND w.workshopId > :afterWorkshopId)) " +
+           "ORDER BY w.startDate, w.workshopId")
+    List<Workshop> findPageByStateAfter(@Param("state") WorkshopState state,
+                                        @Param("afterStartDate") LocalDate afterStartDate,
+                                        @Param("afterWorkshopId") Long afterWorkshopId,
+                                        Limit limit);
+
+    // Claims a seat in a single statement; returns 0 when the workshop is missing, deleted, completed or full
+    @Modifying
+    @Query("UPDATE Workshop w SET w.seatsBooked = w.seatsBooked + 1 " +
+           "WHERE w.workshopId = :workshopId AND w.isWorkshopDeleted = false " +
+           "AND w.workshopState <> com.aptr.workshop_backend.enums.WorkshopState.COMPLETED " +
+           "AND (w.seatCapacity IS NULL OR w.seatsBooked < w.seatCapacity)")
+    int reserveSeat(@Param("workshopId") Long workshopId);
+
+    // Books seats taken by a bulk registration, whose rows are already locked by findAllByIdForUpdate
+    @Modifying
+    @Query("UPDATE Workshop w SET w.seatsBooked = w.seatsBooked + :seats WHERE w.workshopId = :workshopId")
+    int reserveSeats(@Param("workshopId") Long workshopId, @Param("seats") int seats);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Workshop w WHERE w.workshopId = :workshopId")
+    Optional<Workshop> findByIdForUpdate(@Param("workshopId") Long workshopId);
+
+    // Locks rows in id order so concurrent bulk registrations cannot deadlock each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Workshop w WHERE w.workshopId IN :workshopIds ORDER BY w.workshopId")
+    List<Workshop> findAllByIdForUpdate(@Param("workshopIds") Collection<Long> workshopIds);
+
+    // (workshopId, seatsBooked) pairs for the live seat counts shown on cached catalog pages
+    @Query("SELECT w.workshopId, w.seatsBooked FROM Workshop w WHERE w.workshopId IN :workshopIds")
+    List<Object[]> findSeatsBooked(@Param("workshopIds") Collection<Long> workshopIds);
+
+    @Modifying
+    @Query("UPDATE Workshop w SET w.seatsBooked = w.seatsBooked - 1 " +
+           "WHERE w.workshopId = :workshopId AND w.seatsBooked > 0")
+    int releaseSeat(@Param("workshopId") Long workshopId);
 }
 
 
@@ -7,7 +7,6 @@ import com.aptr.workshop_backend.mapper.AdminMapper;
 import com.aptr.workshop_backend.repository.AdminRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,12 +19,12 @@ import java.util.stream.Collectors;
 public class AdminService {
     private final AdminRepo adminRepo;
     private final AdminMapper adminMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
 
     public String addNewAdmin(AdminRegisterDto adminRegisterDto) {
         Admin admin=AdminMapper.INSTANCE.adminRegisterDtoToAdmin(adminRegisterDto);
-        admin.setAdminPassword(passwordEncoder.encode(adminRegisterDto.getAdminPassword()));
+        admin.setAdminPassword(passwordHashingService.encode(adminRegisterDto.getAdminPassword()));
         //admin.setAdminPassword(passwordEncoder.encode(admin.getAdminPassword()));
         adminRepo.save(admin);
         return "New Admin added successfully";
@@ -41,12 +40,15 @@ public class AdminService {
         }
         
         Admin admin = optionalAdmin.get();
-        if (!passwordEncoder.matches(adminLoginDto.adminPassword(), admin.getAdminPassword())) {
+        if (!passwordHashingService.matches(adminLoginDto.adminPassword(), admin.getAdminPassword())) {
             log.warn("Login failed: Invalid password for admin user: {}", adminLoginDto.adminUserId());
             return null;
         }
+        passwordHashingService.rehashIfOutdated(adminLoginDto.adminPassword(), admin.getAdminPassword(),
+                newHash -> adminRepo.replacePasswordHash(admin.getAdminId(), admin.getAdminPassword(), newHash));
         
-        String accessToken = jwtUtil.generateAccessToken(admin.getAdminUserId(), admin.getRole());
+        String accessToken = jwtUtil.generateAccessToken(admin.getAdminUserId(), admin.getRole(),
+                admin.getAdminId(), admin.getTokenVersion());
         log.info("Admin login successful for user: {}", adminLoginDto.adminUserId());
         
         return new AccessTokenDto(accessToken, admin.getAdminId());
@@ -0,0 +1,73 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.AttendeeDashboardDto;
+import com.aptr.workshop_backend.dto.AttendeeDashboardRowDto;
+import com.aptr.workshop_backend.dto.WorkshopDto;
+import com.aptr.workshop_backend.dto.WorkshopSummaryDto;
+import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.mapper.WorkshopMapper;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the attendee home screen shows, from one read of the attendee's registrations partitioned in
+ * memory with the same rules as the separate registered, attended and pending-feedback endpoints.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendeeDashboardService {
+    private final AttendeeWorkshopRegistrationRepo attendeeWorkshopRegistrationRepo;
+    private final WorkshopMapper workshopMapper;
+
+    // Projection of the listed columns only: no entities, tutors or long texts are loaded
+    @Transactional(readOnly = true)
+    public AttendeeDashboardDto<WorkshopSummaryDto> compactDashboard(Long attendeeId) {
+        Dashboard<WorkshopSummaryDto> dashboard = new Dashboard<>();
+        for (AttendeeDashboardRowDto row : attendeeWorkshopRegistrationRepo.findDashboardRows(attendeeId)) {
+            dashboard.add(new WorkshopSummaryDto(row.workshopId(), row.workshopTitle(), row.workshopTopic(),
+                            row.workshopState(), row.startDate(), row.endDate()),
+                    row.workshopState(), row.attended(), row.feedbackGiven());
+        }
+        return dashboard.toDto(attendeeId);
+    }
+
+    @Transactional(readOnly = true)
+    public AttendeeDashboardDto<WorkshopDto> fullDashboard(Long attendeeId) {
+        Dashboard<WorkshopDto> dashboard = new Dashboard<>();
+        for (AttendeeWorkshopRegistration registration : attendeeWorkshopRegistrationRepo.findDashboardRegistrations(attendeeId)) {
+            dashboard.add(workshopMapper.workshopToAttendeeWorkshopDto(registration.getWorkshop()),
+                    registration.getWorkshop().getWorkshopState(), registration.getAttended(), registration.getFeedbackGiven());
+        }
+        return dashboard.toDto(attendeeId);
+    }
+
+    private static final class Dashboard<T> {
+        private final List<T> registered = new ArrayList<>();
+        private final List<T> attended = new ArrayList<>();
+        private final List<T> pendingFeedback = new ArrayList<>();
+        private final List<T> upcoming = new ArrayList<>();
+
+        void add(T workshop, WorkshopState state, Boolean wasAttended, Boolean feedbackGiven) {
+            registered.add(workshop);
+            if (Boolean.TRUE.equals(wasAttended)) {
+                attended.add(workshop);
+            }
+            if (state == WorkshopState.COMPLETED && !Boolean.TRUE.equals(feedbackGiven)) {
+                pendingFeedback.add(workshop);
+            }
+            if (state == WorkshopState.UPCOMING) {
+                upcoming.add(workshop);
+            }
+        }
+
+        AttendeeDashboardDto<T> toDto(Long attendeeId) {
+            return new AttendeeDashboardDto<>(attendeeId, registered, attended, pendingFeedback, upcoming);
+        }
+    }
+}
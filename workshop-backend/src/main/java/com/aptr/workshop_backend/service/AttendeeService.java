@@ -13,7 +13,6 @@ import com.aptr.workshop_backend.mapper.AttendeeMapper;
 import com.aptr.workshop_backend.repository.AttendeeRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -26,7 +25,7 @@ import java.util.stream.Collectors;
 public class AttendeeService {
     private final AttendeeRepo attendeeRepo;
     private final AttendeeMapper attendeeMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
 
     public String signup(AttendeeRegisterDto attendeeRegisterDto) {
@@ -40,7 +39,7 @@ public class AttendeeService {
         
         try {
             Attendee attendee = AttendeeMapper.INSTANCE.attendeeRegisterDtoToAttendee(attendeeRegisterDto);
-            attendee.setAttendeePassword(passwordEncoder.encode(attendeeRegisterDto.attendeePassword()));
+            attendee.setAttendeePassword(passwordHashingService.encode(attendeeRegisterDto.attendeePassword()));
             attendeeRepo.save(attendee);
             
             log.info("Attendee registered successfully with email: {}", attendeeRegisterDto.attendeeEmail());
@@ -60,11 +59,14 @@ public class AttendeeService {
         
         Attendee attendee = attendeeOptional.get();
         
-        if (!passwordEncoder.matches(attendeeLoginDto.attendeePassword(), attendee.getAttendeePassword())) {
+        if (!passwordHashingService.matches(attendeeLoginDto.attendeePassword(), attendee.getAttendeePassword())) {
             throw new UnauthorizedException("Invalid credentials");
         }
+        passwordHashingService.rehashIfOutdated(attendeeLoginDto.attendeePassword(), attendee.getAttendeePassword(),
+                newHash -> attendeeRepo.replacePasswordHash(attendee.getAttendeeId(), attendee.getAttendeePassword(), newHash));
         
-        String accessToken = jwtUtil.generateAccessToken(attendee.getAttendeeEmail(), attendee.getRole());
+        String accessToken = jwtUtil.generateAccessToken(attendee.getAttendeeEmail(), attendee.getRole(),
+                attendee.getAttendeeId(), attendee.getTokenVersion());
         
         return new AttendeeAccessTokenDto(accessToken, attendee.getAttendeeId());
     }
@@ -0,0 +1,91 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.entity.OutboxEvent;
+import com.aptr.workshop_backend.enums.DomainEventType;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.OutboxEventRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Records domain events in the outbox table inside the caller's transaction, so an event exists exactly
+ * when the change it describes has committed. Callers append an event only after they hold the row lock
+ * that serialises writers of the same workshop (the seat update, the stats row or the workshop row).
+ */
+@Service
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final OutboxEventRepo outboxEventRepo;
+    private final OutboxRelay outboxRelay;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registered(Long workshopId, Long attendeeId) {
+        append(event(DomainEventType.REGISTERED, workshopId, attendeeId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registered(List<Long> registerIds) {
+        if (registerIds.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (int from = 0; from < registerIds.size(); from += INSERT_CHUNK_SIZE) {
+            outboxEventRepo.insertRegisteredEvents(
+                    registerIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, registerIds.size())), now);
+        }
+        relayAfterCommit();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deregistered(Long workshopId, Long attendeeId) {
+        append(event(DomainEventType.DEREGISTERED, workshopId, attendeeId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void feedbackSubmitted(Long workshopId, Long attendeeId, int rating) {
+        OutboxEvent event = event(DomainEventType.FEEDBACK_SUBMITTED, workshopId, attendeeId);
+        event.setRating(rating);
+        append(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void workshopStateChanged(Long workshopId, WorkshopState previousState, WorkshopState workshopState) {
+        OutboxEvent event = event(DomainEventType.WORKSHOP_STATE_CHANGED, workshopId, null);
+        event.setPreviousState(previousState);
+        event.setWorkshopState(workshopState);
+        append(event);
+    }
+
+    private OutboxEvent event(DomainEventType type, Long workshopId, Long attendeeId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(type);
+        event.setWorkshopId(workshopId);
+        event.setAttendeeId(attendeeId);
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+
+    private void append(OutboxEvent event) {
+        outboxEventRepo.save(event);
+        relayAfterCommit();
+    }
+
+    // Wakes the relay as soon as the events are visible instead of waiting for its next poll
+    private void relayAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.requestDrain();
+            }
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.DomainEventDto;
+
+/**
+ * In-process consumer of the events relayed from the outbox. Every subscriber bean receives each event
+ * after the change that produced it has committed, and the events of one workshop arrive in the order
+ * they were committed.
+ * <p>
+ * Delivery is at least once: when any subscriber throws, or the application stops before the event is
+ * marked published, the event is delivered again to all subscribers. Implementations must therefore be
+ * idempotent, for example by remembering the last {@code eventId} they applied per workshop.
+ */
+public interface DomainEventSubscriber {
+
+    void onEvent(DomainEventDto event);
+}
@@ -0,0 +1,210 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.DomainEventDto;
+import com.aptr.workshop_backend.dto.OutboxFailureDto;
+import com.aptr.workshop_backend.dto.OutboxStatsDto;
+import com.aptr.workshop_backend.enums.OutboxStatus;
+import com.aptr.workshop_backend.exception.ResourceNotFoundException;
+import com.aptr.workshop_backend.repository.OutboxEventRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains the outbox in id order and hands each event to every {@link DomainEventSubscriber}, then marks
+ * the delivered batch published. It is woken after each commit that appended events and also polls, so
+ * events written while it was down or whose delivery failed are picked up again.
+ * <p>
+ * When delivery of an event fails, it is retried after a backoff that doubles with every attempt, and the
+ * rest of that workshop's events wait behind it, which keeps per-workshop order; other workshops' events
+ * keep flowing. An event that keeps failing is parked as FAILED after the configured attempts and still
+ * holds back its workshop until an admin retries or discards it.
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    private final OutboxEventRepo outboxEventRepo;
+    private final ObjectProvider<DomainEventSubscriber> subscribers;
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration retention;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong deliveryFailures = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepo outboxEventRepo,
+                       ObjectProvider<DomainEventSubscriber> subscribers,
+                       TaskScheduler taskScheduler,
+                       @Value("${workshop.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${workshop.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${workshop.outbox.relay.poll-interval:1s}") Duration pollInterval,
+                       @Value("${workshop.outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${workshop.outbox.relay.retry-backoff:1s}") Duration retryBackoff,
+                       @Value("${workshop.outbox.relay.max-retry-backoff:5m}") Duration maxRetryBackoff,
+                       @Value("${workshop.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepo = outboxEventRepo;
+        this.subscribers = subscribers;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.retention = retention;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Outbox relay is disabled, events stay in the outbox until drained explicitly");
+            return;
+        }
+        taskScheduler.scheduleWithFixedDelay(this::drainQuietly, pollInterval);
+        taskScheduler.scheduleWithFixedDelay(this::purgeQuietly, PURGE_INTERVAL);
+    }
+
+    public void requestDrain() {
+        if (enabled && drainScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                drainScheduled.set(false);
+                drainQuietly();
+            }, Instant.now());
+        }
+    }
+
+    /**
+     * Delivers pending events until none is left that may be delivered now. A failed event puts its workshop
+     * into backoff, which takes it out of the next batch, so every round either publishes or blocks something.
+     *
+     * @return the number of events published
+     */
+    public int drain() {
+        drainLock.lock();
+        try {
+            int published = 0;
+            while (true) {
+                List<DomainEventDto> batch = outboxEventRepo.findPending(Instant.now(), Limit.of(batchSize));
+                published += relay(batch);
+                if (batch.size() < batchSize) {
+                    return published;
+                }
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private int relay(List<DomainEventDto> batch) {
+        List<Long> publishedIds = new ArrayList<>();
+        Set<Long> blockedWorkshops = new HashSet<>();
+        for (DomainEventDto event : batch) {
+            if (blockedWorkshops.contains(event.workshopId())) {
+                continue;
+            }
+            try {
+                subscribers.orderedStream().forEach(subscriber -> subscriber.onEvent(event));
+                publishedIds.add(event.eventId());
+            } catch (RuntimeException e) {
+                blockedWorkshops.add(event.workshopId());
+                deliveryFailures.incrementAndGet();
+                String error = String.valueOf(e);
+                int attempts = outboxEventRepo.findAttempts(event.eventId()) + 1;
+                Duration backoff = backoff(attempts);
+                outboxEventRepo.recordFailure(event.eventId(), error.length() > 500 ? error.substring(0, 500) : error,
+                        Instant.now().plus(backoff), maxAttempts);
+                if (attempts >= maxAttempts) {
+                    log.error("Delivery of outbox event {} ({} of workshop {}) failed {} times, parked as FAILED: {}",
+                            event.eventId(), event.eventType(), event.workshopId(), attempts, error);
+                } else {
+                    log.warn("Delivery of outbox event {} ({} of workshop {}) failed, retrying in {}: {}",
+                            event.eventId(), event.eventType(), event.workshopId(), backoff, error);
+                }
+            }
+        }
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepo.markPublished(publishedIds, Instant.now());
+            delivered.addAndGet(publishedIds.size());
+        }
+        return publishedIds.size();
+    }
+
+    // retryBackoff after the first failure, doubling with every further one up to maxRetryBackoff
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    public List<OutboxFailureDto> failedEvents() {
+        return outboxEventRepo.findFailed();
+    }
+
+    // Gives a FAILED event a fresh set of attempts, e.g. once the subscriber that rejected it is fixed
+    public void retryFailed(Long eventId) {
+        if (outboxEventRepo.retryFailed(eventId) == 0) {
+            throw new ResourceNotFoundException("Failed outbox event", "id", eventId);
+        }
+        log.info("Outbox event {} handed back to the relay", eventId);
+        requestDrain();
+    }
+
+    // Gives up on a FAILED event so the workshop's later events are delivered without it
+    public void discardFailed(Long eventId) {
+        if (outboxEventRepo.discardFailed(eventId) == 0) {
+            throw new ResourceNotFoundException("Failed outbox event", "id", eventId);
+        }
+        log.warn("Outbox event {} discarded without delivery", eventId);
+        requestDrain();
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed, retrying in {}: {}", pollInterval, e.getMessage());
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            int purged = outboxEventRepo.deletePublishedBefore(Instant.now().minus(retention));
+            if (purged > 0) {
+                log.info("Purged {} published outbox events older than {}", purged, retention);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to purge published outbox events: {}", e.getMessage());
+        }
+    }
+
+    public OutboxStatsDto stats() {
+        return new OutboxStatsDto(
+                outboxEventRepo.countByStatus(OutboxStatus.PENDING),
+                outboxEventRepo.countByStatus(OutboxStatus.FAILED),
+                delivered.get(),
+                deliveryFailures.get());
+    }
+}
@@ -0,0 +1,152 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.AttendeeResponseDto;
+import com.aptr.workshop_backend.dto.RegistrationExportRowDto;
+import com.aptr.workshop_backend.enums.ExportFormat;
+import com.aptr.workshop_backend.exception.BadRequestException;
+import com.aptr.workshop_backend.exception.ResourceNotFoundException;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes registration exports straight to the response while the rows are read from a forward-only
+ * cursor, so memory stays flat however large the cohort is. Rows are DTO projections, which keeps the
+ * persistence context empty for the whole export.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationExportService {
+    // Leading characters that make Excel, LibreOffice and Sheets treat a cell as a formula
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final List<Column<AttendeeResponseDto>> ATTENDEE_COLUMNS = List.of(
+            new Column<>("attendeeName", AttendeeResponseDto::attendeeName),
+            new Column<>("attendeeEmail", AttendeeResponseDto::attendeeEmail),
+            new Column<>("attendeePhoneNumber", AttendeeResponseDto::attendeePhoneNumber));
+
+    private static final List<Column<RegistrationExportRowDto>> REGISTRATION_COLUMNS = List.of(
+            new Column<>("registerId", RegistrationExportRowDto::registerId),
+            new Column<>("workshopId", RegistrationExportRowDto::workshopId),
+            new Column<>("workshopTitle", RegistrationExportRowDto::workshopTitle),
+            new Column<>("workshopState", RegistrationExportRowDto::workshopState),
+            new Column<>("attendeeId", RegistrationExportRowDto::attendeeId),
+            new Column<>("attendeeName", RegistrationExportRowDto::attendeeName),
+            new Column<>("attendeeEmail", RegistrationExportRowDto::attendeeEmail),
+            new Column<>("registrationTime", RegistrationExportRowDto::registrationTime),
+            new Column<>("attended", RegistrationExportRowDto::attended),
+            new Column<>("feedbackGiven", RegistrationExportRowDto::feedbackGiven),
+            new Column<>("rating", RegistrationExportRowDto::rating),
+            new Column<>("comment", RegistrationExportRowDto::comment));
+
+    private final AttendeeWorkshopRegistrationRepo attendeeWorkshopRegistrationRepo;
+    private final WorkshopRepo workshopRepo;
+    private final ObjectMapper objectMapper;
+
+    public ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Export format must be csv or ndjson");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportWorkshopRegistrations(Long workshopId, ExportFormat format, HttpServletResponse response) throws IOException {
+        if (!workshopRepo.existsById(workshopId)) {
+            throw new ResourceNotFoundException("Workshop", "id", workshopId);
+        }
+        try (Stream<AttendeeResponseDto> rows = attendeeWorkshopRegistrationRepo.streamAttendeesByWorkshopId(workshopId)) {
+            long exported = write(rows, ATTENDEE_COLUMNS, format, "workshop-" + workshopId + "-registrations", response);
+            log.info("Exported {} registrations of workshop {} as {}", exported, workshopId, format);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAllRegistrations(ExportFormat format, HttpServletResponse response) throws IOException {
+        try (Stream<RegistrationExportRowDto> rows = attendeeWorkshopRegistrationRepo.streamAllRegistrations()) {
+            long exported = write(rows, REGISTRATION_COLUMNS, format, "registrations", response);
+            log.info("Exported {} registrations as {}", exported, format);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, List<Column<T>> columns, ExportFormat format, String fileName,
+                           HttpServletResponse response) throws IOException {
+        String extension = format == ExportFormat.CSV ? ".csv" : ".ndjson";
+        response.setContentType(format == ExportFormat.CSV ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName + extension).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns.stream().map(Column::header).toList());
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writeCsvLine(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+                count++;
+            }
+        } else {
+            JsonGenerator generator = objectMapper.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (iterator.hasNext()) {
+                objectMapper.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+            generator.flush();
+        }
+        writer.flush();
+        return count;
+    }
+
+    // RFC 4180: a field is quoted when it contains a separator, a quote or a line break; quotes are doubled.
+    // Text that a spreadsheet would evaluate as a formula is prefixed with an apostrophe first.
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            String text = value == null ? "" : value instanceof Date date ? date.toInstant().toString() : value.toString();
+            if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private record Column<T>(String header, Function<T, Object> value) {
+    }
+}
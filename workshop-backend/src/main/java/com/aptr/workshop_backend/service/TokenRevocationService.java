@@ -0,0 +1,102 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.config.jwt.JwtPrincipal;
+import com.aptr.workshop_backend.enums.Role;
+import com.aptr.workshop_backend.exception.ResourceNotFoundException;
+import com.aptr.workshop_backend.repository.AdminRepo;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether an access token has been revoked. Every token carries the token version of its user;
+ * revoking bumps the stored version so all earlier tokens stop matching. Current versions are cached,
+ * so the auth path only reads the database the first time a user is seen within the TTL.
+ * The TTL bounds how long a revocation made on another instance can go unnoticed.
+ * <p>
+ * Versions are loaded outside the cache rather than through a cache loader: Caffeine runs loaders
+ * inside a map-bin monitor, which would pin a virtual thread for the whole database round trip.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+    private static final int MISSING_USER = -1;
+
+    private final AdminRepo adminRepo;
+    private final AttendeeRepo attendeeRepo;
+    private final Cache<UserKey, Integer> tokenVersions;
+    // Bumped on every revocation so a version read just before it is never left in the cache
+    private final AtomicLong revocations = new AtomicLong();
+
+    public TokenRevocationService(AdminRepo adminRepo,
+                                  AttendeeRepo attendeeRepo,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${workshop.security.token-version-cache-size:100000}") long cacheSize,
+                                  @Value("${workshop.security.token-version-cache-ttl:5m}") Duration cacheTtl) {
+        this.adminRepo = adminRepo;
+        this.attendeeRepo = attendeeRepo;
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "token-versions");
+    }
+
+    public boolean isCurrent(JwtPrincipal principal) {
+        UserKey key = new UserKey(principal.role(), principal.userId());
+        Integer current = tokenVersions.getIfPresent(key);
+        if (current == null) {
+            long revocationsBefore = revocations.get();
+            current = loadTokenVersion(key);
+            tokenVersions.put(key, current);
+            if (revocations.get() != revocationsBefore) {
+                tokenVersions.invalidate(key);
+            }
+        }
+        return current != MISSING_USER && current == principal.tokenVersion();
+    }
+
+    @Transactional
+    public void revokeAll(Role role, Long userId) {
+        int updated = role == Role.ADMIN
+                ? adminRepo.incrementTokenVersion(userId)
+                : attendeeRepo.incrementTokenVersion(userId);
+        if (updated == 0) {
+            throw new ResourceNotFoundException(role == Role.ADMIN ? "Admin" : "Attendee", "id", userId);
+        }
+
+        UserKey key = new UserKey(role, userId);
+        tokenVersions.invalidate(key);
+        // Drop it again after commit so a concurrent request cannot re-cache the old version in between
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocations.incrementAndGet();
+                tokenVersions.invalidate(key);
+            }
+        });
+        log.info("Revoked all access tokens of {} {}", role, userId);
+    }
+
+    private int loadTokenVersion(UserKey key) {
+        return (key.role() == Role.ADMIN
+                ? adminRepo.findTokenVersion(key.userId())
+                : attendeeRepo.findTokenVersion(key.userId()))
+                .orElse(MISSING_USER);
+    }
+
+    private record UserKey(Role role, Long userId) {
+    }
+}
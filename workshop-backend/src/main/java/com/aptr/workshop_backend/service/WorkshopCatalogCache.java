@@ -0,0 +1,189 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.CatalogCacheStatsDto;
+import com.aptr.workshop_backend.dto.WorkshopDto;
+import com.aptr.workshop_backend.dto.WorkshopPageDto;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Keeps catalog pages as ready-to-send JSON, one cache per workshop state. The services that change
+ * what a page shows (workshop edits, state transitions) invalidate the affected states; inside a
+ * transaction the invalidation is repeated after commit so no reader can re-cache rows that were about
+ * to change. Booked seat counts are not part of that: bookings leave the pages cached, and a page is
+ * only serialized again, with the counts from {@link WorkshopSeatCounts}, once a count on it has moved.
+ * Each state's cache reports its hits, misses and evictions as {@code cache.*} meters named
+ * {@code catalog-pages-<state>}.
+ */
+@Service
+public class WorkshopCatalogCache {
+
+    private final ObjectMapper objectMapper;
+    // The catalog version is bumped on every invalidation, so a page loaded from rows that changed meanwhile is never kept
+    private final WorkshopVersionStamps workshopVersionStamps;
+    private final WorkshopSeatCounts workshopSeatCounts;
+    private final Map<WorkshopState, Cache<PageKey, CachedPage>> pages = new EnumMap<>(WorkshopState.class);
+
+    public WorkshopCatalogCache(ObjectMapper objectMapper,
+                                WorkshopVersionStamps workshopVersionStamps,
+                                WorkshopSeatCounts workshopSeatCounts,
+                                MeterRegistry meterRegistry,
+                                @Value("${workshop.catalog-cache.max-pages-per-state:1000}") long maxPagesPerState,
+                                @Value("${workshop.catalog-cache.ttl:10m}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.workshopVersionStamps = workshopVersionStamps;
+        this.workshopSeatCounts = workshopSeatCounts;
+        for (WorkshopState state : WorkshopState.values()) {
+            Cache<PageKey, CachedPage> cache = Caffeine.newBuilder()
+                    .maximumSize(maxPagesPerState)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalog-pages-" + state.name().toLowerCase());
+            pages.put(state, cache);
+        }
+    }
+
+    public byte[] page(WorkshopState state, String cursor, Integer size, Supplier<WorkshopPageDto> loader) {
+        Cache<PageKey, CachedPage> cache = pages.get(state);
+        PageKey key = new PageKey(cursor == null || cursor.isBlank() ? null : cursor, size);
+        CachedPage cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return withLiveSeats(cache, key, cached);
+        }
+
+        // Loaded outside the cache so the database round trip never holds a cache lock
+        long versionBefore = workshopVersionStamps.catalogVersion(state);
+        long seatsVersionBefore = workshopVersionStamps.seatsVersion();
+        WorkshopPageDto page = loader.get();
+        workshopSeatCounts.remember(seatsBooked(page), seatsVersionBefore);
+        cached = new CachedPage(page, serialize(page));
+        cache.put(key, cached);
+        if (workshopVersionStamps.catalogVersion(state) != versionBefore) {
+            cache.invalidate(key);
+        }
+        return cached.json();
+    }
+
+    private byte[] withLiveSeats(Cache<PageKey, CachedPage> cache, PageKey key, CachedPage cached) {
+        List<WorkshopDto> content = cached.page().content();
+        if (content.isEmpty()) {
+            return cached.json();
+        }
+        Map<Long, Integer> seatsBooked = workshopSeatCounts.seatsBooked(content.stream().map(WorkshopDto::workshopId).toList());
+        if (content.stream().allMatch(workshop ->
+                Objects.equals(seatsBooked.getOrDefault(workshop.workshopId(), workshop.seatsBooked()), workshop.seatsBooked()))) {
+            return cached.json();
+        }
+
+        WorkshopPageDto page = new WorkshopPageDto(
+                content.stream().map(workshop -> withSeatsBooked(workshop,
+                        seatsBooked.getOrDefault(workshop.workshopId(), workshop.seatsBooked()))).toList(),
+                cached.page().nextCursor(),
+                cached.page().hasNext());
+        CachedPage refreshed = new CachedPage(page, serialize(page));
+        // Only replaces the entry this request read, so a page invalidated meanwhile is not brought back
+        cache.asMap().replace(key, cached, refreshed);
+        return refreshed.json();
+    }
+
+    private static Map<Long, Integer> seatsBooked(WorkshopPageDto page) {
+        Map<Long, Integer> seatsBooked = new HashMap<>();
+        for (WorkshopDto workshop : page.content()) {
+            if (workshop.seatsBooked() != null) {
+                seatsBooked.put(workshop.workshopId(), workshop.seatsBooked());
+            }
+        }
+        return seatsBooked;
+    }
+
+    private static WorkshopDto withSeatsBooked(WorkshopDto workshop, Integer seatsBooked) {
+        return new WorkshopDto(workshop.workshopId(), workshop.workshopTitle(), workshop.workshopTopic(),
+                workshop.workshopTutors(), workshop.workshopObjective(), workshop.workshopDescription(),
+                workshop.workshopInstructions(), workshop.startDate(), workshop.endDate(),
+                workshop.seatCapacity(), seatsBooked);
+    }
+
+    public void invalidate(WorkshopState... states) {
+        // An edit that keeps the workshop's state passes the same state twice
+        Set<WorkshopState> changed = EnumSet.noneOf(WorkshopState.class);
+        Collections.addAll(changed, states);
+        invalidate(changed);
+    }
+
+    public void invalidate(Set<WorkshopState> states) {
+        if (states.isEmpty()) {
+            return;
+        }
+        states.forEach(this::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<WorkshopState> changed = EnumSet.copyOf(states);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changed.forEach(WorkshopCatalogCache.this::evict);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        invalidate(EnumSet.allOf(WorkshopState.class));
+    }
+
+    public List<CatalogCacheStatsDto> stats() {
+        return pages.entrySet().stream()
+                .map(entry -> {
+                    CacheStats stats = entry.getValue().stats();
+                    return new CatalogCacheStatsDto(
+                            entry.getKey(),
+                            entry.getValue().estimatedSize(),
+                            stats.hitCount(),
+                            stats.missCount(),
+                            stats.evictionCount(),
+                            stats.hitRate()
+                    );
+                })
+                .toList();
+    }
+
+    private void evict(WorkshopState state) {
+        workshopVersionStamps.catalogChanged(state);
+        pages.get(state).invalidateAll();
+    }
+
+    private byte[] serialize(WorkshopPageDto page) {
+        try {
+            return objectMapper.writeValueAsBytes(page);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize catalog page", e);
+        }
+    }
+
+    private record PageKey(String cursor, Integer size) {
+    }
+
+    private record CachedPage(WorkshopPageDto page, byte[] json) {
+    }
+}
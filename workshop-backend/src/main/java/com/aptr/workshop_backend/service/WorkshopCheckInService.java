@@ -0,0 +1,271 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.CheckInResultDto;
+import com.aptr.workshop_backend.dto.WorkshopHeadcountDto;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.CheckInOutcome;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.exception.BadRequestException;
+import com.aptr.workshop_backend.exception.ResourceNotFoundException;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Door check-in for running workshops. Each workshop's roster (who is registered, who is already in) is
+ * loaded once and kept in memory, so a scan is answered without touching the database and duplicate
+ * scans are recognised straight away. Accepted scans are buffered and written in batches by
+ * {@link WorkshopCheckInWriter}, which appends them to the check-in log and sets the registrations'
+ * attended flag.
+ * <p>
+ * Scans accepted in the last flush interval are lost if the process dies; the kiosk's own scan log is the
+ * backstop, and re-sending it is harmless because writes skip scans that are already logged.
+ */
+@Service
+@Slf4j
+public class WorkshopCheckInService {
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final WorkshopRepo workshopRepo;
+    private final AttendeeWorkshopRegistrationRepo attendeeWorkshopRegistrationRepo;
+    private final WorkshopCheckInWriter workshopCheckInWriter;
+    private final TaskScheduler taskScheduler;
+    private final Duration flushInterval;
+    private final int maxScansPerRequest;
+
+    private final Cache<Long, Roster> rosters;
+    private final ConcurrentLinkedQueue<Scan> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Map<CheckInOutcome, Counter> scans = new EnumMap<>(CheckInOutcome.class);
+
+    public WorkshopCheckInService(WorkshopRepo workshopRepo,
+                                  AttendeeWorkshopRegistrationRepo attendeeWorkshopRegistrationRepo,
+                                  WorkshopCheckInWriter workshopCheckInWriter,
+                                  TaskScheduler taskScheduler,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${workshop.check-in.flush-interval:500ms}") Duration flushInterval,
+                                  @Value("${workshop.check-in.max-scans-per-request:500}") int maxScansPerRequest,
+                                  @Value("${workshop.check-in.max-rosters:1000}") long maxRosters,
+                                  @Value("${workshop.check-in.roster-ttl:12h}") Duration rosterTtl) {
+        this.workshopRepo = workshopRepo;
+        this.attendeeWorkshopRegistrationRepo = attendeeWorkshopRegistrationRepo;
+        this.workshopCheckInWriter = workshopCheckInWriter;
+        this.taskScheduler = taskScheduler;
+        this.flushInterval = flushInterval;
+        this.maxScansPerRequest = maxScansPerRequest;
+        this.rosters = Caffeine.newBuilder()
+                .maximumSize(maxRosters)
+                .expireAfterAccess(rosterTtl)
+                .build();
+
+        for (CheckInOutcome outcome : CheckInOutcome.values()) {
+            scans.put(outcome, Counter.builder("workshop.check-in.scans")
+                    .description("Door scans by outcome")
+                    .tag("outcome", outcome.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("workshop.check-in.pending", pendingCount, AtomicInteger::get)
+                .description("Accepted scans not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval);
+    }
+
+    public List<CheckInResultDto> checkIn(Long workshopId, List<Long> attendeeIds) {
+        if (attendeeIds == null || attendeeIds.isEmpty()) {
+            throw new BadRequestException("At least one attendee is required");
+        }
+        if (attendeeIds.size() > maxScansPerRequest) {
+            throw new BadRequestException("Check-in is limited to " + maxScansPerRequest + " scans per request");
+        }
+
+        Roster roster = roster(workshopId);
+        if (WorkshopStateScheduler.stateOn(roster.startDate(), roster.endDate(), LocalDate.now()) != WorkshopState.ONGOING) {
+            throw new BadRequestException("Check-in is only open while the workshop is ongoing");
+        }
+
+        Instant now = Instant.now();
+        List<CheckInResultDto> results = new ArrayList<>(attendeeIds.size());
+        for (Long attendeeId : attendeeIds) {
+            CheckInOutcome outcome;
+            if (attendeeId == null || !roster.registered().contains(attendeeId)) {
+                outcome = CheckInOutcome.NOT_REGISTERED;
+            } else if (!roster.checkedIn().add(attendeeId)) {
+                outcome = CheckInOutcome.ALREADY_CHECKED_IN;
+            } else {
+                pending.add(new Scan(workshopId, attendeeId, now));
+                pendingCount.incrementAndGet();
+                outcome = CheckInOutcome.CHECKED_IN;
+            }
+            scans.get(outcome).increment();
+            results.add(new CheckInResultDto(attendeeId, outcome));
+        }
+        return results;
+    }
+
+    public WorkshopHeadcountDto headcount(Long workshopId) {
+        Roster roster = roster(workshopId);
+        return new WorkshopHeadcountDto(workshopId, roster.registered().size(), roster.checkedIn().size());
+    }
+
+    // Registration changes reach a loaded roster only once they have committed
+    public void registrationAdded(Long workshopId, Long attendeeId) {
+        afterCommit(() -> rosters.asMap().computeIfPresent(workshopId, (id, roster) -> {
+            roster.registered().add(attendeeId);
+            return roster;
+        }));
+    }
+
+    public void registrationRemoved(Long workshopId, Long attendeeId) {
+        afterCommit(() -> rosters.asMap().computeIfPresent(workshopId, (id, roster) -> {
+            roster.registered().remove(attendeeId);
+            roster.checkedIn().remove(attendeeId);
+            return roster;
+        }));
+    }
+
+    // Dates or the deleted flag changed; the next scan reloads the roster
+    public void workshopChanged(Long workshopId) {
+        afterCommit(() -> rosters.invalidate(workshopId));
+    }
+
+    /**
+     * Writes every buffered scan, one transaction per workshop and chunk. When a write fails, its scans and
+     * the ones not yet attempted go back into the buffer for the next round.
+     *
+     * @return the number of check-ins appended to the log
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int written = 0;
+            while (true) {
+                Map<Long, Map<Long, Instant>> byWorkshop = new LinkedHashMap<>();
+                int drained = 0;
+                Scan scan;
+                while (drained < WRITE_CHUNK_SIZE && (scan = pending.poll()) != null) {
+                    byWorkshop.computeIfAbsent(scan.workshopId(), id -> new LinkedHashMap<>())
+                            .putIfAbsent(scan.attendeeId(), scan.checkedInAt());
+                    drained++;
+                }
+                pendingCount.addAndGet(-drained);
+                if (drained == 0) {
+                    return written;
+                }
+
+                List<Map.Entry<Long, Map<Long, Instant>>> batches = new ArrayList<>(byWorkshop.entrySet());
+                for (int i = 0; i < batches.size(); i++) {
+                    try {
+                        written += workshopCheckInWriter.write(batches.get(i).getKey(), batches.get(i).getValue());
+                    } catch (RuntimeException e) {
+                        requeue(batches.subList(i, batches.size()));
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to write buffered check-ins, retrying in {}: {}", flushInterval, e.getMessage());
+        }
+    }
+
+    private void requeue(List<Map.Entry<Long, Map<Long, Instant>>> batches) {
+        for (Map.Entry<Long, Map<Long, Instant>> batch : batches) {
+            batch.getValue().forEach((attendeeId, checkedInAt) -> {
+                pending.add(new Scan(batch.getKey(), attendeeId, checkedInAt));
+                pendingCount.incrementAndGet();
+            });
+        }
+    }
+
+    // Loaded under the cache's per-key lock, so a crowd at the door triggers one load per workshop
+    private Roster roster(Long workshopId) {
+        return rosters.get(workshopId, this::loadRoster);
+    }
+
+    private Roster loadRoster(Long workshopId) {
+        Workshop workshop = workshopRepo.findByWorkshopIdAndIsWorkshopDeletedFalse(workshopId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workshop", "id", workshopId));
+        if (workshop.getStartDate() == null || workshop.getEndDate() == null) {
+            throw new BadRequestException("Workshop " + workshopId + " has no schedule to check in against");
+        }
+
+        Roster roster = new Roster(workshop.getStartDate(), workshop.getEndDate(),
+                ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+        for (Object[] row : attendeeWorkshopRegistrationRepo.findCheckInRoster(workshopId)) {
+            roster.registered().add((Long) row[0]);
+            if (Boolean.TRUE.equals(row[1])) {
+                roster.checkedIn().add((Long) row[0]);
+            }
+        }
+        // Scans accepted before the roster was last evicted may still be waiting to be written
+        for (Scan scan : pending) {
+            if (scan.workshopId().equals(workshopId)) {
+                roster.checkedIn().add(scan.attendeeId());
+            }
+        }
+        return roster;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Roster(LocalDate startDate, LocalDate endDate, Set<Long> registered, Set<Long> checkedIn) {
+    }
+
+    private record Scan(Long workshopId, Long attendeeId, Instant checkedInAt) {
+    }
+}
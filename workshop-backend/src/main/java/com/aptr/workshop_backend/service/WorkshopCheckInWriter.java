@@ -0,0 +1,54 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.entity.WorkshopCheckIn;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopCheckInRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persists one workshop's batch of buffered scans: coalesces the whole batch into the registrations'
+ * attended flag with a single update and appends the scans of still registered attendees not logged yet.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkshopCheckInWriter {
+    private final WorkshopCheckInRepo workshopCheckInRepo;
+    private final AttendeeWorkshopRegistrationRepo attendeeWorkshopRegistrationRepo;
+    private final WorkshopVersionStamps workshopVersionStamps;
+
+    @Transactional
+    public int write(Long workshopId, Map<Long, Instant> scans) {
+        // Marked first so the updated registrations stay locked; scans of attendees who deregistered after
+        // the scan was accepted have no registration left and are dropped
+        attendeeWorkshopRegistrationRepo.markAttended(workshopId, scans.keySet());
+        Set<Long> registered = new HashSet<>();
+        for (Object[] pair : attendeeWorkshopRegistrationRepo.findRegisteredPairs(scans.keySet(), List.of(workshopId))) {
+            registered.add((Long) pair[0]);
+        }
+        if (registered.isEmpty()) {
+            return 0;
+        }
+
+        // Scans logged by an earlier run, e.g. before a restart, are skipped rather than failing the whole batch
+        Set<Long> logged = new HashSet<>(workshopCheckInRepo.findCheckedInAttendeeIds(workshopId, registered));
+        List<WorkshopCheckIn> checkIns = new ArrayList<>(registered.size());
+        scans.forEach((attendeeId, checkedInAt) -> {
+            if (registered.contains(attendeeId) && !logged.contains(attendeeId)) {
+                checkIns.add(new WorkshopCheckIn(workshopId, attendeeId, checkedInAt));
+            }
+        });
+        workshopCheckInRepo.saveAll(checkIns);
+        // Attended lists and the dashboard change for these attendees
+        workshopVersionStamps.registrationsChanged(registered);
+        return checkIns.size();
+    }
+}
@@ -0,0 +1,88 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.DomainEventDto;
+import com.aptr.workshop_backend.dto.WorkshopFeedbackStatsDto;
+import com.aptr.workshop_backend.entity.WorkshopFeedbackStats;
+import com.aptr.workshop_backend.enums.DomainEventType;
+import com.aptr.workshop_backend.exception.ResourceNotFoundException;
+import com.aptr.workshop_backend.repository.WorkshopFeedbackStatsRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkshopFeedbackStatsService implements DomainEventSubscriber {
+    private final WorkshopFeedbackStatsRepo workshopFeedbackStatsRepo;
+    private final WorkshopRepo workshopRepo;
+
+    // Applied once the feedback has committed and off the request that submitted it
+    @Override
+    @Transactional
+    public void onEvent(DomainEventDto event) {
+        if (event.eventType() == DomainEventType.FEEDBACK_SUBMITTED) {
+            recordRating(event.eventId(), event.workshopId(), event.rating());
+        }
+    }
+
+    private void recordRating(Long eventId, Long workshopId, int rating) {
+        // A redelivered event, or one already counted by a rebuild, no longer matches the lastEventId guard
+        if (workshopFeedbackStatsRepo.recordRating(eventId, workshopId, rating) > 0
+                || workshopFeedbackStatsRepo.existsById(workshopId)) {
+            return;
+        }
+
+        // First rating for this workshop: the workshop row lock makes sure only one delivery creates the stats row
+        if (workshopRepo.findAllByIdForUpdate(List.of(workshopId)).isEmpty()) {
+            return;
+        }
+        if (!workshopFeedbackStatsRepo.existsById(workshopId)) {
+            workshopFeedbackStatsRepo.saveAndFlush(new WorkshopFeedbackStats(workshopId));
+        }
+        workshopFeedbackStatsRepo.recordRating(eventId, workshopId, rating);
+    }
+
+    @Transactional
+    public int rebuild() {
+        workshopFeedbackStatsRepo.deleteAllInBatch();
+        int rebuilt = workshopFeedbackStatsRepo.insertFromRegistrations();
+        log.info("Rebuilt feedback statistics for {} workshops", rebuilt);
+        return rebuilt;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (workshopFeedbackStatsRepo.count() == 0) {
+            rebuild();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public WorkshopFeedbackStatsDto getStats(Long workshopId) {
+        WorkshopFeedbackStats stats = workshopFeedbackStatsRepo.findById(workshopId)
+                .orElseGet(() -> {
+                    if (!workshopRepo.existsById(workshopId)) {
+                        throw new ResourceNotFoundException("Workshop", "id", workshopId);
+                    }
+                    return new WorkshopFeedbackStats(workshopId);
+                });
+
+        return new WorkshopFeedbackStatsDto(
+                workshopId,
+                stats.getFeedbackCount(),
+                stats.getFeedbackCount() == 0 ? 0.0 : (double) stats.getRatingSum() / stats.getFeedbackCount(),
+                stats.getMinRating(),
+                stats.getMaxRating(),
+                List.of(stats.getRating0Count(), stats.getRating1Count(), stats.getRating2Count(),
+                        stats.getRating3Count(), stats.getRating4Count(), stats.getRating5Count())
+        );
+    }
+}
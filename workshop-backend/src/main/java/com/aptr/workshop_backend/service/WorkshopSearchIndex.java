@@ -0,0 +1,434 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.WorkshopSearchHitDto;
+import com.aptr.workshop_backend.dto.WorkshopSearchResultDto;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the searchable text of live workshops, ranked with BM25 over field-boosted
+ * term frequencies. Postings are kept as sorted primitive arrays of internal document numbers, so 100k
+ * workshops with full descriptions stay compact and a query is a handful of array scans.
+ * <p>
+ * A re-indexed or removed workshop only retires its old document number; the postings of retired
+ * documents are dropped in bulk once enough of them have accumulated. Readers share a read lock and
+ * writers, which are rare admin edits, take the write lock.
+ */
+public class WorkshopSearchIndex {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it",
+            "of", "on", "or", "the", "to", "with");
+
+    private static final int TITLE_BOOST = 5;
+    private static final int TOPIC_BOOST = 3;
+    private static final int TUTOR_BOOST = 3;
+    private static final int OBJECTIVE_BOOST = 2;
+    private static final int DESCRIPTION_BOOST = 1;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // A term that merely starts with the query token counts for less than the token itself
+    private static final float PREFIX_MATCH_FACTOR = 0.7f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 128;
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int MIN_RETIRED_BEFORE_COMPACTION = 1024;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> documentsByWorkshop = new HashMap<>();
+
+    private long[] workshopIds = new long[1024];
+    private int[] lengths = new int[1024];
+    // Dates as epoch days so filtering and state checks are plain int comparisons
+    private int[] startDays = new int[1024];
+    private int[] endDays = new int[1024];
+    private String[] titles = new String[1024];
+    private String[] topics = new String[1024];
+    private final BitSet live = new BitSet();
+    private int documentCount;
+    private int retiredCount;
+    private long totalLength;
+
+    /**
+     * Searchable snapshot of a workshop, taken while its lazy tutor collection can still be read.
+     */
+    public record Document(Long workshopId, String title, String topic, String objective, String description,
+                           List<String> tutors, LocalDate startDate, LocalDate endDate) {
+
+        public static Document of(Workshop workshop) {
+            return new Document(workshop.getWorkshopId(), workshop.getWorkshopTitle(), workshop.getWorkshopTopic(),
+                    workshop.getWorkshopObjective(), workshop.getWorkshopDescription(),
+                    workshop.getWorkshopTutors() == null ? List.of() : List.copyOf(workshop.getWorkshopTutors()),
+                    workshop.getStartDate(), workshop.getEndDate());
+        }
+    }
+
+    public void put(Document document) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        int length = addTerms(frequencies, document.title(), TITLE_BOOST)
+                + addTerms(frequencies, document.topic(), TOPIC_BOOST)
+                + addTerms(frequencies, document.objective(), OBJECTIVE_BOOST)
+                + addTerms(frequencies, document.description(), DESCRIPTION_BOOST);
+        for (String tutor : document.tutors()) {
+            length += addTerms(frequencies, tutor, TUTOR_BOOST);
+        }
+
+        lock.writeLock().lock();
+        try {
+            retire(document.workshopId());
+            int doc = allocate();
+            workshopIds[doc] = document.workshopId();
+            lengths[doc] = length;
+            startDays[doc] = epochDay(document.startDate());
+            endDays[doc] = epochDay(document.endDate());
+            titles[doc] = document.title();
+            topics[doc] = document.topic();
+            live.set(doc);
+            totalLength += length;
+            documentsByWorkshop.put(document.workshopId(), doc);
+            // New document numbers are always the highest so far, which keeps every postings list sorted
+            frequencies.forEach((term, frequency) -> terms.computeIfAbsent(term, t -> new Postings()).add(doc, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long workshopId) {
+        lock.writeLock().lock();
+        try {
+            retire(workshopId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentsByWorkshop.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every query token must match, either exactly or as the prefix of an indexed term. The state filter is
+     * evaluated from the dates as of {@code today}; the date filter keeps workshops overlapping [from, to].
+     */
+    public WorkshopSearchResultDto search(String query, WorkshopState state, LocalDate from, LocalDate to,
+                                          LocalDate today, int limit) {
+        List<String> tokens = tokenize(query).stream().distinct().limit(MAX_QUERY_TOKENS).toList();
+        if (tokens.isEmpty()) {
+            return new WorkshopSearchResultDto(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = documentsByWorkshop.size();
+            if (liveCount == 0) {
+                return new WorkshopSearchResultDto(0, List.of());
+            }
+            // BM25 length normalisation k1 * (1 - b + b * length / averageLength), split into constants
+            float normBase = K1 * (1 - B);
+            float normPerUnit = K1 * B * liveCount / totalLength;
+            float[] scores = new float[documentCount];
+            // matchedTokens[doc] == i means the document matched the first i tokens
+            int[] matchedTokens = new int[documentCount];
+
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                Map<String, Postings> expansions = expand(token);
+                if (expansions.isEmpty()) {
+                    return new WorkshopSearchResultDto(0, List.of());
+                }
+                // One idf per query token, so a rare completion cannot outrank the term that was actually typed.
+                // Postings still count retired documents until the next compaction, hence the cap.
+                int frequency = Math.min(liveCount, expansions.values().stream().mapToInt(postings -> postings.size).sum());
+                float idf = (float) Math.log(1 + (liveCount - frequency + 0.5) / (frequency + 0.5));
+                for (Map.Entry<String, Postings> entry : expansions.entrySet()) {
+                    Postings postings = entry.getValue();
+                    float weight = (entry.getKey().equals(token) ? 1f : PREFIX_MATCH_FACTOR) * idf * (K1 + 1);
+                    int[] docs = postings.docs;
+                    int[] frequencies = postings.frequencies;
+                    for (int p = 0; p < postings.size; p++) {
+                        int doc = docs[p];
+                        if (matchedTokens[doc] < i) {
+                            continue;
+                        }
+                        matchedTokens[doc] = i + 1;
+                        float tf = frequencies[p];
+                        scores[doc] += weight * tf / (tf + normBase + normPerUnit * lengths[doc]);
+                    }
+                }
+            }
+
+            int todayDay = (int) today.toEpochDay();
+            int fromDay = from == null ? NO_DATE : (int) from.toEpochDay();
+            int toDay = to == null ? Integer.MAX_VALUE : (int) to.toEpochDay();
+            TopDocuments top = new TopDocuments(limit, scores);
+            int matches = 0;
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                if (matchedTokens[doc] != tokens.size()) {
+                    continue;
+                }
+                if ((state != null && stateOf(doc, todayDay) != state)
+                        || (from != null && endDays[doc] < fromDay)
+                        || (to != null && (startDays[doc] == NO_DATE || startDays[doc] > toDay))) {
+                    continue;
+                }
+                matches++;
+                top.offer(doc);
+            }
+
+            int[] ranked = top.drainDescending();
+            WorkshopSearchHitDto[] hits = new WorkshopSearchHitDto[ranked.length];
+            for (int i = 0; i < ranked.length; i++) {
+                int doc = ranked[i];
+                hits[i] = new WorkshopSearchHitDto(workshopIds[doc], titles[doc], topics[doc],
+                        stateOf(doc, todayDay), date(startDays[doc]), date(endDays[doc]), scores[doc]);
+            }
+            return new WorkshopSearchResultDto(matches, Arrays.asList(hits));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int boost) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, boost, Integer::sum);
+        }
+        return tokens.size() * boost;
+    }
+
+    private Map<String, Postings> expand(String token) {
+        if (token.length() < MIN_PREFIX_LENGTH) {
+            Postings exact = terms.get(token);
+            return exact == null ? Map.of() : Map.of(token, exact);
+        }
+        Map<String, Postings> expansions = new LinkedHashMap<>();
+        for (Map.Entry<String, Postings> entry : terms.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            expansions.put(entry.getKey(), entry.getValue());
+            if (expansions.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+        }
+        return expansions;
+    }
+
+    // Same rule as WorkshopStateScheduler.stateOn, on epoch days
+    private WorkshopState stateOf(int doc, int todayDay) {
+        if (startDays[doc] == NO_DATE || endDays[doc] == NO_DATE) {
+            return null;
+        }
+        if (startDays[doc] > todayDay) {
+            return WorkshopState.UPCOMING;
+        }
+        return endDays[doc] < todayDay ? WorkshopState.COMPLETED : WorkshopState.ONGOING;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date == null ? NO_DATE : (int) date.toEpochDay();
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private void retire(Long workshopId) {
+        Integer doc = documentsByWorkshop.remove(workshopId);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        totalLength -= lengths[doc];
+        titles[doc] = null;
+        topics[doc] = null;
+        retiredCount++;
+        if (retiredCount >= MIN_RETIRED_BEFORE_COMPACTION && retiredCount > documentsByWorkshop.size() / 4) {
+            compact();
+        }
+    }
+
+    private int allocate() {
+        if (documentCount == workshopIds.length) {
+            int capacity = documentCount * 2;
+            workshopIds = Arrays.copyOf(workshopIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            startDays = Arrays.copyOf(startDays, capacity);
+            endDays = Arrays.copyOf(endDays, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            topics = Arrays.copyOf(topics, capacity);
+        }
+        return documentCount++;
+    }
+
+    // Renumbers live documents densely in their existing order, so postings stay sorted while being filtered
+    private void compact() {
+        int[] renumbered = new int[documentCount];
+        int next = 0;
+        for (int doc = 0; doc < documentCount; doc++) {
+            if (live.get(doc)) {
+                renumbered[doc] = next;
+                workshopIds[next] = workshopIds[doc];
+                lengths[next] = lengths[doc];
+                startDays[next] = startDays[doc];
+                endDays[next] = endDays[doc];
+                titles[next] = titles[doc];
+                topics[next] = topics[doc];
+                next++;
+            } else {
+                renumbered[doc] = -1;
+            }
+        }
+        Arrays.fill(titles, next, documentCount, null);
+        Arrays.fill(topics, next, documentCount, null);
+
+        terms.values().removeIf(postings -> postings.renumber(renumbered) == 0);
+        documentsByWorkshop.replaceAll((workshopId, doc) -> renumbered[doc]);
+        live.clear();
+        live.set(0, next);
+        documentCount = next;
+        retiredCount = 0;
+    }
+
+    /**
+     * Bounded min-heap of document numbers keyed by score, ties broken towards the lower workshop id.
+     * Once full, a document that does not beat the weakest kept one is rejected with a single comparison.
+     */
+    private final class TopDocuments {
+        private final int[] heap;
+        private final float[] scores;
+        private int size;
+
+        TopDocuments(int limit, float[] scores) {
+            this.heap = new int[limit];
+            this.scores = scores;
+        }
+
+        void offer(int doc) {
+            if (size < heap.length) {
+                heap[size] = doc;
+                siftUp(size++);
+            } else if (ranksAbove(doc, heap[0])) {
+                heap[0] = doc;
+                siftDown(0);
+            }
+        }
+
+        int[] drainDescending() {
+            int[] ranked = new int[size];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return ranked;
+        }
+
+        private boolean ranksAbove(int doc, int other) {
+            return scores[doc] > scores[other]
+                    || (scores[doc] == scores[other] && workshopIds[doc] < workshopIds[other]);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!ranksAbove(heap[parent], heap[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int weakest = index;
+                int left = 2 * index + 1;
+                if (left < size && ranksAbove(heap[weakest], heap[left])) {
+                    weakest = left;
+                }
+                if (left + 1 < size && ranksAbove(heap[weakest], heap[left + 1])) {
+                    weakest = left + 1;
+                }
+                if (weakest == index) {
+                    return;
+                }
+                swap(weakest, index);
+                index = weakest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = heap[a];
+            heap[a] = heap[b];
+            heap[b] = doc;
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+}
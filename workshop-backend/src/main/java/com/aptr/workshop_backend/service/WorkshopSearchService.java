@@ -0,0 +1,146 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.WorkshopSearchResultDto;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.exception.BadRequestException;
+import com.aptr.workshop_backend.exception.ServiceUnavailableException;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link WorkshopSearchIndex} in step with the workshop table and answers searches from it.
+ * The index is built on startup; afterwards writers hand over a snapshot of each changed workshop,
+ * which is applied once the change has committed. Changes that commit while a build is reading the
+ * table are journaled and replayed onto the new index before it replaces the old one.
+ */
+@Service
+@Slf4j
+public class WorkshopSearchService {
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final WorkshopRepo workshopRepo;
+    private final ReentrantLock changeLock = new ReentrantLock();
+    private volatile WorkshopSearchIndex index = new WorkshopSearchIndex();
+    private List<Consumer<WorkshopSearchIndex>> journal;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private volatile boolean ready;
+
+    public WorkshopSearchService(WorkshopRepo workshopRepo,
+                                 @Value("${workshop.listing.default-page-size:20}") int defaultPageSize,
+                                 @Value("${workshop.listing.max-page-size:100}") int maxPageSize) {
+        this.workshopRepo = workshopRepo;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long started = System.nanoTime();
+        changeLock.lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            changeLock.unlock();
+        }
+
+        WorkshopSearchIndex fresh = new WorkshopSearchIndex();
+        Map<Long, List<String>> tutors = new HashMap<>();
+        try (Stream<Object[]> rows = workshopRepo.streamActiveTutors()) {
+            rows.forEach(row -> tutors.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]));
+        }
+        try (Stream<Object[]> rows = workshopRepo.streamActiveSearchFields()) {
+            rows.forEach(row -> fresh.put(new WorkshopSearchIndex.Document((Long) row[0], (String) row[1], (String) row[2],
+                    (String) row[3], (String) row[4], tutors.getOrDefault((Long) row[0], List.of()),
+                    (LocalDate) row[5], (LocalDate) row[6])));
+        }
+
+        changeLock.lock();
+        try {
+            journal.forEach(change -> change.accept(fresh));
+            journal = null;
+            index = fresh;
+            ready = true;
+        } finally {
+            changeLock.unlock();
+        }
+        log.info("Indexed {} workshops for search in {} ms", fresh.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Takes the snapshot now, while the workshop's tutors are still loadable, and indexes it after commit
+    public void indexAfterCommit(Workshop workshop) {
+        if (workshop.isWorkshopDeleted()) {
+            removeAfterCommit(workshop.getWorkshopId());
+            return;
+        }
+        WorkshopSearchIndex.Document document = WorkshopSearchIndex.Document.of(workshop);
+        afterCommit(target -> target.put(document));
+    }
+
+    public void removeAfterCommit(Long workshopId) {
+        afterCommit(target -> target.remove(workshopId));
+    }
+
+    public WorkshopSearchResultDto search(String query, WorkshopState state, LocalDate from, LocalDate to, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query is limited to " + MAX_QUERY_LENGTH + " characters");
+        }
+        int limit = size == null ? defaultPageSize : size;
+        if (limit < 1 || limit > maxPageSize) {
+            throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new BadRequestException("Search date range ends before it starts");
+        }
+        if (!ready) {
+            throw new ServiceUnavailableException("Workshop search is starting up. Please try again shortly.", 1);
+        }
+        return index.search(query, state, from, to, LocalDate.now(), limit);
+    }
+
+    private void afterCommit(Consumer<WorkshopSearchIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<WorkshopSearchIndex> change) {
+        changeLock.lock();
+        try {
+            change.accept(index);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            changeLock.unlock();
+        }
+    }
+}
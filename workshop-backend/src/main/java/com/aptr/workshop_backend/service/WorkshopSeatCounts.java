@@ -0,0 +1,93 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Booked seat counts of the workshops shown on catalog pages. {@link WorkshopCatalogCache} keeps a page
+ * across bookings and only swaps in the counts held here, so a registration rush never empties the page
+ * caches. A booking or release drops its workshop's count once it commits; the next page showing that
+ * workshop reads the count again, in one query for every count the page is missing.
+ */
+@Service
+public class WorkshopSeatCounts {
+
+    private final WorkshopRepo workshopRepo;
+    // The seats version is bumped on every drop, so a count read from rows that changed meanwhile is never kept
+    private final WorkshopVersionStamps workshopVersionStamps;
+    private final Cache<Long, Integer> seatsBooked;
+
+    public WorkshopSeatCounts(WorkshopRepo workshopRepo,
+                              WorkshopVersionStamps workshopVersionStamps,
+                              @Value("${workshop.catalog-cache.max-seat-counts:10000}") long maxSeatCounts) {
+        this.workshopRepo = workshopRepo;
+        this.workshopVersionStamps = workshopVersionStamps;
+        this.seatsBooked = Caffeine.newBuilder()
+                .maximumSize(maxSeatCounts)
+                .build();
+    }
+
+    public Map<Long, Integer> seatsBooked(Collection<Long> workshopIds) {
+        long versionBefore = workshopVersionStamps.seatsVersion();
+        Map<Long, Integer> counts = new HashMap<>(seatsBooked.getAllPresent(workshopIds));
+        List<Long> missing = workshopIds.stream().filter(workshopId -> !counts.containsKey(workshopId)).toList();
+        if (!missing.isEmpty()) {
+            Map<Long, Integer> loaded = new HashMap<>();
+            for (Object[] row : workshopRepo.findSeatsBooked(missing)) {
+                loaded.put((Long) row[0], (Integer) row[1]);
+            }
+            remember(loaded, versionBefore);
+            counts.putAll(loaded);
+        }
+        return counts;
+    }
+
+    /**
+     * Keeps counts read from workshop rows that were loaded after {@code versionBefore} was taken, unless a
+     * booking committed in between.
+     */
+    public void remember(Map<Long, Integer> counts, long versionBefore) {
+        seatsBooked.putAll(counts);
+        if (workshopVersionStamps.seatsVersion() != versionBefore) {
+            counts.forEach((workshopId, count) -> seatsBooked.asMap().remove(workshopId, count));
+        }
+    }
+
+    public void seatsChanged(Long workshopId) {
+        seatsChanged(List.of(workshopId));
+    }
+
+    public void seatsChanged(Collection<Long> workshopIds) {
+        if (workshopIds.isEmpty()) {
+            return;
+        }
+        List<Long> changed = List.copyOf(workshopIds);
+        afterCommit(() -> {
+            workshopVersionStamps.seatsChanged();
+            seatsBooked.invalidateAll(changed);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
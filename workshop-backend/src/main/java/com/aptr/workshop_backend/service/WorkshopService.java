@@ -4,6 +4,7 @@ import com.aptr.workshop_backend.dto.*;
 import com.aptr.workshop_backend.entity.Attendee;
 import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
 import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.RegistrationOutcome;
 import com.aptr.workshop_backend.enums.WorkshopState;
 import com.aptr.workshop_backend.exception.BadRequestException;
 import com.aptr.workshop_backend.exception.ConflictException;
@@ -12,27 +13,63 @@ import com.aptr.workshop_backend.mapper.WorkshopMapper;
 import com.aptr.workshop_backend.mapper.AttendeeMapper;
 import com.aptr.workshop_backend.repository.AttendeeRepo;
 import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopFeedbackStatsRepo;
 import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.aptr.workshop_backend.specifications.WorkshopSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WorkshopService {
+    private static final int MAX_BULK_REGISTRATIONS = 10_000;
+    private static final List<String> SORTABLE_PROPERTIES =
+            List.of("startDate", "endDate", "createdDate", "workshopTitle", "workshopTopic", "workshopId");
+
     private final WorkshopRepo workshopRepo;
     private final AttendeeRepo attendeeRepo;
     private final AttendeeWorkshopRegistrationRepo attendeeWorkshopRegistrationRepo;
     private final WorkshopMapper workshopMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final WorkshopStateScheduler workshopStateScheduler;
+    private final WorkshopCatalogCache workshopCatalogCache;
+    private final WorkshopSeatCounts workshopSeatCounts;
+    private final WorkshopVersionStamps workshopVersionStamps;
+    private final DomainEventOutbox domainEventOutbox;
+    private final WorkshopSearchService workshopSearchService;
+    private final WorkshopFeedbackStatsRepo workshopFeedbackStatsRepo;
+    private final WorkshopCheckInService workshopCheckInService;
+
+    @Value("${workshop.listing.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${workshop.listing.max-page-size:100}")
+    private int maxPageSize;
 
     public String addWorkshop(Workshop workshop) {
         LocalDate currentDate = LocalDate.now();
@@ -44,31 +81,150 @@ public class WorkshopService {
         if (workshop.getStartDate().isBefore(currentDate) || workshop.getEndDate().isBefore(currentDate)) {
             throw new BadRequestException("Start and end dates must be in the future");
         }
+        if (workshop.getSeatCapacity() != null && workshop.getSeatCapacity() < 0) {
+            throw new BadRequestException("Seat capacity cannot be negative");
+        }
 
+        workshop.setSeatsBooked(0);
         workshop.setWorkshopState(determineWorkshopState(workshop.getStartDate(), workshop.getEndDate()));
         Workshop savedWorkshop = workshopRepo.save(workshop);
+        workshopStateScheduler.track(savedWorkshop.getWorkshopId(), savedWorkshop.getStartDate(), savedWorkshop.getEndDate());
+        workshopCatalogCache.invalidate(savedWorkshop.getWorkshopState());
+        workshopSearchService.indexAfterCommit(savedWorkshop);
         log.info("Workshop created successfully with ID: {}", savedWorkshop.getWorkshopId());
         return "New workshop created successfully";
     }
 
-    public List<Workshop> upcomingWorkshops() {
-        return workshopRepo.findByWorkshopStateAndIsWorkshopDeletedFalse(WorkshopState.UPCOMING);
+    @Transactional(readOnly = true)
+    public WorkshopPageDto upcomingWorkshops(String cursor, Integer size) {
+        return workshopsByState(WorkshopState.UPCOMING, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public WorkshopPageDto ongoingWorkshops(String cursor, Integer size) {
+        return workshopsByState(WorkshopState.ONGOING, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public WorkshopPageDto completedWorkshops(String cursor, Integer size) {
+        return workshopsByState(WorkshopState.COMPLETED, cursor, size);
+    }
+
+    private WorkshopPageDto workshopsByState(WorkshopState state, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+
+        // One extra row tells us whether another page exists without a count query
+        List<Workshop> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = workshopRepo.findFirstPageByState(state, Limit.of(pageSize + 1));
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = workshopRepo.findPageByStateAfter(state, LocalDate.parse(position[0]),
+                    Long.valueOf(position[1]), Limit.of(pageSize + 1));
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Workshop> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        return new WorkshopPageDto(
+                page.stream().map(workshopMapper::workshopToWorkshopDto).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    private String encodeCursor(Workshop last) {
+        String position = last.getStartDate() + "|" + last.getWorkshopId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
     }
 
-    public List<Workshop> ongoingWorkshops() {
-        return workshopRepo.findByWorkshopStateAndIsWorkshopDeletedFalse(WorkshopState.ONGOING);
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            LocalDate.parse(position[0]);
+            Long.valueOf(position[1]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
     }
 
-    public List<Workshop> completedWorkshops() {
-        return workshopRepo.findByWorkshopStateAndIsWorkshopDeletedFalse(WorkshopState.COMPLETED);
+    /**
+     * Admin filtering: every criterion set on the filter is combined into one specification query, paged by
+     * offset with a total count. {@code sort} is a comma separated list of properties, a leading '-' sorting
+     * that property descending; the workshop id is always appended so pages are stable.
+     */
+    @Transactional(readOnly = true)
+    public WorkshopFilterPageDto filterWorkshops(WorkshopFilterDto filter, Integer page, Integer size, String sort) {
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageNumber < 0) {
+            throw new BadRequestException("Page number cannot be negative");
+        }
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        requireOrdered(filter.startFrom(), filter.startTo(), "startFrom", "startTo");
+        requireOrdered(filter.endFrom(), filter.endTo(), "endFrom", "endTo");
+        requireOrdered(filter.createdFrom(), filter.createdTo(), "createdFrom", "createdTo");
+
+        Page<Workshop> result = workshopRepo.findAll(WorkshopSpecifications.matching(filter),
+                PageRequest.of(pageNumber, pageSize, parseSort(sort)));
+
+        return new WorkshopFilterPageDto(
+                result.getContent().stream().map(workshopMapper::workshopToWorkshopDto).toList(),
+                pageNumber,
+                pageSize,
+                result.getTotalElements(),
+                result.getTotalPages()
+        );
+    }
+
+    private void requireOrdered(LocalDate from, LocalDate to, String fromName, String toName) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException(fromName + " cannot be after " + toName);
+        }
     }
 
+    private Sort parseSort(String sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sort != null && !sort.isBlank()) {
+            for (String field : sort.split(",")) {
+                String property = field.trim();
+                boolean descending = property.startsWith("-");
+                if (descending) {
+                    property = property.substring(1);
+                }
+                if (!SORTABLE_PROPERTIES.contains(property)) {
+                    throw new BadRequestException("Cannot sort by '" + property + "', sortable properties are " + SORTABLE_PROPERTIES);
+                }
+                orders.add(descending ? Sort.Order.desc(property) : Sort.Order.asc(property));
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add(Sort.Order.asc("startDate"));
+        }
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("workshopId"))) {
+            orders.add(Sort.Order.asc("workshopId"));
+        }
+        return Sort.by(orders);
+    }
+
+    @Transactional
     public String editWorkshop(Long workshopId, WorkshopDto workshopDto) {
         if (workshopDto == null) {
             throw new BadRequestException("Workshop data is required");
         }
 
-        Workshop existingWorkshop = workshopRepo.findById(workshopId)
+        // Locked so the capacity check sees every seat booked up to now and none can be booked until commit
+        Workshop existingWorkshop = workshopRepo.findByIdForUpdate(workshopId)
             .orElseThrow(() -> new ResourceNotFoundException("Workshop", "id", workshopId));
         
         LocalDate today = LocalDate.now();
@@ -132,6 +288,11 @@ public class WorkshopService {
                 }
             }
             
+            if (workshopDto.seatCapacity() != null && workshopDto.seatCapacity() < existingWorkshop.getSeatsBooked()) {
+                throw new BadRequestException("Seat capacity cannot be lower than the " +
+                        existingWorkshop.getSeatsBooked() + " seats already booked");
+            }
+
             workshopMapper.updateWorkshopFromDto(workshopDto, existingWorkshop);
             
             if ((workshopDto.startDate() != null && !existingWorkshop.getStartDate().equals(oldStartDate)) ||
@@ -140,59 +301,157 @@ public class WorkshopService {
                 existingWorkshop.setWorkshopState(newState);
             }
             
-            workshopRepo.save(existingWorkshop);
+            // Flushed first so the workshop row is locked before a state change event is appended
+            workshopRepo.saveAndFlush(existingWorkshop);
+            if (existingWorkshop.getWorkshopState() != currentState) {
+                domainEventOutbox.workshopStateChanged(workshopId, currentState, existingWorkshop.getWorkshopState());
+            }
+            if (!existingWorkshop.isWorkshopDeleted()) {
+                workshopStateScheduler.track(workshopId, existingWorkshop.getStartDate(), existingWorkshop.getEndDate());
+            }
+            workshopCatalogCache.invalidate(currentState, existingWorkshop.getWorkshopState());
+            workshopSearchService.indexAfterCommit(existingWorkshop);
+            workshopCheckInService.workshopChanged(workshopId);
             return "Workshop updated successfully";
         } catch (Exception e) {
             throw new BadRequestException("Error updating workshop: " + e.getMessage());
         }
     }
 
+    @Transactional
     public String registerAttendeeToWorkshop(WorkshopRegistrationRequestDto dto) {
-        Attendee attendee = attendeeRepo.findById(dto.attendeeId())
-                .orElseThrow(() -> new ResourceNotFoundException("Attendee", "id", dto.attendeeId()));
-        
-        Workshop workshop = workshopRepo.findById(dto.workshopId())
-                .orElseThrow(() -> new ResourceNotFoundException("Workshop", "id", dto.workshopId()));
-
-        if (workshop.getWorkshopState() == WorkshopState.COMPLETED) {
-            throw new BadRequestException("Cannot register for a completed workshop");
+        if (!attendeeRepo.existsById(dto.attendeeId())) {
+            throw new ResourceNotFoundException("Attendee", "id", dto.attendeeId());
         }
-        
-        boolean alreadyRegistered = attendeeWorkshopRegistrationRepo
-                .existsByAttendee_AttendeeIdAndWorkshop_WorkshopId(dto.attendeeId(), dto.workshopId());
-        
-        if (alreadyRegistered) {
-            throw new ConflictException("Registration", "workshop", dto.workshopId());
+
+        // The seat is claimed atomically on the workshop row, so concurrent requests can never oversell
+        if (workshopRepo.reserveSeat(dto.workshopId()) == 0) {
+            throw seatReservationFailure(dto.workshopId());
         }
-        
+
         try {
             AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
-            registration.setAttendee(attendee);
-            registration.setWorkshop(workshop);
+            registration.setAttendee(attendeeRepo.getReferenceById(dto.attendeeId()));
+            registration.setWorkshop(workshopRepo.getReferenceById(dto.workshopId()));
             registration.setRegistrationTime(new Date());
 
-            attendeeWorkshopRegistrationRepo.save(registration);
+            attendeeWorkshopRegistrationRepo.saveAndFlush(registration);
+            domainEventOutbox.registered(dto.workshopId(), dto.attendeeId());
+            workshopCheckInService.registrationAdded(dto.workshopId(), dto.attendeeId());
+            workshopSeatCounts.seatsChanged(dto.workshopId());
+            workshopVersionStamps.registrationsChanged(dto.attendeeId());
             log.info("Attendee {} successfully registered for workshop {}", dto.attendeeId(), dto.workshopId());
             return "Registration successful";
-        } catch (Exception e) {
-            log.error("Error during workshop registration: {}", e.getMessage());
-            throw new BadRequestException("Registration failed: " + e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            // uk_registration_attendee_workshop rejected a duplicate; rolling back also releases the seat
+            throw new ConflictException("Registration", "workshop", dto.workshopId());
+        }
+    }
+
+    private RuntimeException seatReservationFailure(Long workshopId) {
+        Workshop workshop = workshopRepo.findByWorkshopIdAndIsWorkshopDeletedFalse(workshopId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workshop", "id", workshopId));
+
+        if (workshop.getWorkshopState() == WorkshopState.COMPLETED) {
+            return new BadRequestException("Cannot register for a completed workshop");
+        }
+        return new ConflictException("Workshop " + workshopId + " is fully booked");
+    }
+
+    @Transactional
+    public List<BulkRegistrationResultDto> bulkRegisterAttendees(List<WorkshopRegistrationRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("At least one registration is required");
+        }
+        if (requests.size() > MAX_BULK_REGISTRATIONS) {
+            throw new BadRequestException("Bulk registration is limited to " + MAX_BULK_REGISTRATIONS + " rows per request");
+        }
+
+        Set<Long> attendeeIds = requests.stream().map(WorkshopRegistrationRequestDto::attendeeId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> workshopIds = requests.stream().map(WorkshopRegistrationRequestDto::workshopId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+
+        Set<Long> existingAttendeeIds = new HashSet<>(attendeeRepo.findExistingIds(attendeeIds));
+        // Workshop rows stay locked until commit so single registrations cannot oversell alongside the batch
+        Map<Long, Workshop> workshops = workshopRepo.findAllByIdForUpdate(workshopIds).stream()
+                .collect(Collectors.toMap(Workshop::getWorkshopId, Function.identity()));
+
+        Set<String> registeredPairs = new HashSet<>();
+        for (Object[] pair : attendeeWorkshopRegistrationRepo.findRegisteredPairs(existingAttendeeIds, workshops.keySet())) {
+            registeredPairs.add(pair[0] + ":" + pair[1]);
+        }
+
+        Date registrationTime = new Date();
+        Map<Long, Integer> seatsBooked = new HashMap<>();
+        Set<Long> registeredAttendeeIds = new HashSet<>();
+        List<AttendeeWorkshopRegistration> registrations = new ArrayList<>();
+        List<BulkRegistrationResultDto> results = new ArrayList<>(requests.size());
+        Set<String> seenPairs = new HashSet<>();
+
+        for (WorkshopRegistrationRequestDto request : requests) {
+            Workshop workshop = workshops.get(request.workshopId());
+            String pairKey = request.attendeeId() + ":" + request.workshopId();
+            RegistrationOutcome outcome;
+
+            if (!existingAttendeeIds.contains(request.attendeeId())) {
+                outcome = RegistrationOutcome.ATTENDEE_NOT_FOUND;
+            } else if (workshop == null || workshop.isWorkshopDeleted()) {
+                outcome = RegistrationOutcome.WORKSHOP_NOT_FOUND;
+            } else if (workshop.getWorkshopState() == WorkshopState.COMPLETED) {
+                outcome = RegistrationOutcome.WORKSHOP_COMPLETED;
+            } else if (registeredPairs.contains(pairKey)) {
+                outcome = RegistrationOutcome.ALREADY_REGISTERED;
+            } else if (!seenPairs.add(pairKey)) {
+                outcome = RegistrationOutcome.DUPLICATE_IN_REQUEST;
+            } else if (workshop.getSeatCapacity() != null && workshop.getSeatsBooked()
+                    + seatsBooked.getOrDefault(workshop.getWorkshopId(), 0) >= workshop.getSeatCapacity()) {
+                outcome = RegistrationOutcome.WORKSHOP_FULL;
+            } else {
+                seatsBooked.merge(workshop.getWorkshopId(), 1, Integer::sum);
+                AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+                registration.setAttendee(attendeeRepo.getReferenceById(request.attendeeId()));
+                registration.setWorkshop(workshop);
+                registration.setRegistrationTime(registrationTime);
+                registrations.add(registration);
+                registeredAttendeeIds.add(request.attendeeId());
+                workshopCheckInService.registrationAdded(request.workshopId(), request.attendeeId());
+                outcome = RegistrationOutcome.REGISTERED;
+            }
+            results.add(new BulkRegistrationResultDto(request.attendeeId(), request.workshopId(), outcome));
         }
+
+        seatsBooked.forEach(workshopRepo::reserveSeats);
+        attendeeWorkshopRegistrationRepo.saveAll(registrations);
+        domainEventOutbox.registered(registrations.stream().map(AttendeeWorkshopRegistration::getRegisterId).toList());
+        workshopSeatCounts.seatsChanged(seatsBooked.keySet());
+        workshopVersionStamps.registrationsChanged(registeredAttendeeIds);
+        log.info("Bulk registration processed {} rows, {} registered", requests.size(), registrations.size());
+        return results;
     }
 
+    @Transactional
     public String deregisterAttendeeFromWorkshop(WorkshopRegistrationRequestDto dto) {
-        AttendeeWorkshopRegistration registration = attendeeWorkshopRegistrationRepo
-                .findByAttendee_AttendeeIdAndWorkshop_WorkshopId(dto.attendeeId(), dto.workshopId())
+        RegistrationStatusDto registration = attendeeWorkshopRegistrationRepo
+                .findRegistrationStatus(dto.attendeeId(), dto.workshopId())
                 .orElseThrow(() -> new ResourceNotFoundException("Registration", "attendee and workshop", 
                     dto.attendeeId() + " and " + dto.workshopId()));
         
-        Workshop workshop = registration.getWorkshop();
-        if (workshop.getWorkshopState() == WorkshopState.COMPLETED) {
+        if (registration.workshopState() == WorkshopState.COMPLETED) {
             throw new BadRequestException("Cannot deregister from a completed workshop");
         }
         
+        // A concurrent deregistration that already removed the row must not release the seat a second time
+        if (attendeeWorkshopRegistrationRepo.deleteByRegisterId(registration.registerId()) == 0) {
+            throw new ResourceNotFoundException("Registration", "attendee and workshop",
+                    dto.attendeeId() + " and " + dto.workshopId());
+        }
         try {
-            attendeeWorkshopRegistrationRepo.delete(registration);
+            workshopRepo.releaseSeat(dto.workshopId());
+            domainEventOutbox.deregistered(dto.workshopId(), dto.attendeeId());
+            workshopCheckInService.registrationRemoved(dto.workshopId(), dto.attendeeId());
+            workshopSeatCounts.seatsChanged(dto.workshopId());
+            workshopVersionStamps.registrationsChanged(dto.attendeeId());
             log.info("Attendee {} successfully deregistered from workshop {}", dto.attendeeId(), dto.workshopId());
             return "Deregistration successful";
         } catch (Exception e) {
@@ -201,8 +460,9 @@ public class WorkshopService {
         }
     }
 
+    @Transactional
     public String softDeleteWorkshop(Long workshopId) {
-        Optional<Workshop> optional = workshopRepo.findById(workshopId);
+        Optional<Workshop> optional = workshopRepo.findByIdForUpdate(workshopId);
         if (optional.isEmpty()) {
             throw new ResourceNotFoundException("Workshop", "id", workshopId);
         }
@@ -212,6 +472,10 @@ public class WorkshopService {
         }
         workshop.setWorkshopDeleted(true);
         workshopRepo.save(workshop);
+        workshopStateScheduler.untrack(workshopId);
+        workshopCatalogCache.invalidate(workshop.getWorkshopState());
+        workshopSearchService.removeAfterCommit(workshopId);
+        workshopCheckInService.workshopChanged(workshopId);
         log.info("Workshop with ID: {} soft deleted successfully", workshopId);
         return "Workshop soft deleted successfully";
     }
@@ -221,39 +485,29 @@ public class WorkshopService {
     }
 
     private WorkshopState determineWorkshopState(LocalDate startDate, LocalDate endDate) {
-        LocalDate today = LocalDate.now();
-
-        if (startDate.isAfter(today)) {
-            return WorkshopState.UPCOMING;
-        } else if ((startDate.isEqual(today) || startDate.isBefore(today)) &&
-                (endDate.isEqual(today) || endDate.isAfter(today))) {
-            return WorkshopState.ONGOING;
-        } else {
-            return WorkshopState.COMPLETED;
-        }
+        return WorkshopStateScheduler.stateOn(startDate, endDate, LocalDate.now());
     }
 
+    @Transactional(readOnly = true)
     public List<WorkshopDto> getRegisteredWorkshopsByAttendee(Long attendeeId) {
-        List<AttendeeWorkshopRegistration> registrations = attendeeWorkshopRegistrationRepo.findByAttendee_AttendeeId(attendeeId);
-
-        return registrations.stream()
-                .map(reg -> workshopMapper.workshopToWorkshopDto(reg.getWorkshop()))
+        return attendeeWorkshopRegistrationRepo.findRegisteredWorkshops(attendeeId).stream()
+                .map(workshopMapper::workshopToAttendeeWorkshopDto)
                 .toList();
 
     }
 
+    @Transactional
     public String submitFeedback(FeedbackDto dto) {
-        AttendeeWorkshopRegistration registration = attendeeWorkshopRegistrationRepo
-            .findByAttendee_AttendeeIdAndWorkshop_WorkshopId(dto.attendeeId(), dto.workshopId())
+        RegistrationStatusDto registration = attendeeWorkshopRegistrationRepo
+            .findRegistrationStatus(dto.attendeeId(), dto.workshopId())
             .orElseThrow(() -> new ResourceNotFoundException("Registration", 
                 "attendee and workshop", dto.attendeeId() + " and " + dto.workshopId()));
 
-        if (registration.getFeedbackGiven() != null && registration.getFeedbackGiven()) {
+        if (registration.feedbackGiven() != null && registration.feedbackGiven()) {
             throw new ConflictException("Feedback has already been submitted");
         }
 
-        Workshop workshop = registration.getWorkshop();
-        if (workshop.getWorkshopState() != WorkshopState.COMPLETED) {
+        if (registration.workshopState() != WorkshopState.COMPLETED) {
             throw new BadRequestException("Cannot submit feedback until the workshop is completed");
         }
 
@@ -261,83 +515,93 @@ public class WorkshopService {
             throw new BadRequestException("Rating must be between 0 and 5");
         }
         
-        registration.setRating(dto.rating());
-        registration.setComment(dto.comment());
-        registration.setFeedbackGiven(true);
-        registration.setAttended(true);
-        attendeeWorkshopRegistrationRepo.save(registration);
+        if (attendeeWorkshopRegistrationRepo.recordFeedback(registration.registerId(), dto.rating(), dto.comment()) == 0) {
+            throw new ConflictException("Feedback has already been submitted");
+        }
+        domainEventOutbox.feedbackSubmitted(dto.workshopId(), dto.attendeeId(), dto.rating());
+        workshopVersionStamps.registrationsChanged(dto.attendeeId());
         return "Feedback submitted successfully";
     }
 
+    @Transactional(readOnly = true)
     public List<WorkshopDto> getPendingFeedbacks(Long attendeeId) {
-        List<AttendeeWorkshopRegistration> registrations =
-                attendeeWorkshopRegistrationRepo.findPendingFeedbacks(attendeeId, WorkshopState.COMPLETED);
-
-        return registrations.stream()
-                .map(reg -> workshopMapper.workshopToWorkshopDto(reg.getWorkshop()))
+        return attendeeWorkshopRegistrationRepo.findPendingFeedbackWorkshops(attendeeId, WorkshopState.COMPLETED).stream()
+                .map(workshopMapper::workshopToAttendeeWorkshopDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<WorkshopDto> getAttendedWorkshopsByAttendee(Long attendeeId) {
-        List<AttendeeWorkshopRegistration> registrations =
-                attendeeWorkshopRegistrationRepo.findAttendedWorkshopsByAttendeeId(attendeeId);
-
-        return registrations.stream()
-                .map(reg -> workshopMapper.workshopToWorkshopDto(reg.getWorkshop()))
+        return attendeeWorkshopRegistrationRepo.findAttendedWorkshops(attendeeId).stream()
+                .map(workshopMapper::workshopToAttendeeWorkshopDto)
                 .collect(Collectors.toList());
     }
 
-    public List<WorkshopFeedbackDto> getAllWorkshopFeedbacks() {
-        List<Long> workshopIds = attendeeWorkshopRegistrationRepo.findWorkshopIdsWithFeedback();
-        
-        return workshopIds.stream()
-            .map(this::getWorkshopFeedback)
-            .filter(dto -> dto != null)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<WorkshopFeedbackDto> getAllWorkshopFeedbacks(Long afterWorkshopId, Integer size, boolean includeComments) {
+        if (size != null && (size < 1 || size > maxPageSize)) {
+            throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        List<WorkshopFeedbackSummaryDto> summaries = workshopFeedbackStatsRepo.findSummaries(
+                afterWorkshopId == null ? 0L : afterWorkshopId,
+                size == null ? Limit.unlimited() : Limit.of(size));
+
+        return assembleFeedback(summaries, includeComments);
     }
-    
+
+    @Transactional(readOnly = true)
     public WorkshopFeedbackDto getWorkshopFeedback(Long workshopId) {
+        Optional<WorkshopFeedbackSummaryDto> summary = workshopFeedbackStatsRepo.findSummary(workshopId);
+        if (summary.isPresent()) {
+            return assembleFeedback(List.of(summary.get()), true).get(0);
+        }
+
         Optional<Workshop> workshopOpt = workshopRepo.findById(workshopId);
-        
         if (workshopOpt.isEmpty()) {
             return null;
         }
-        
+
         Workshop workshop = workshopOpt.get();
-        Double avgRating = attendeeWorkshopRegistrationRepo.getAverageRatingForWorkshop(workshopId);
-        
-        if (avgRating == null) {
-            return new WorkshopFeedbackDto(
-                workshopId,
-                workshop.getWorkshopTitle(),
-                workshop.getStartDate(),
-                workshop.getEndDate(),
-                0.0,
-                0,
-                List.of()
-            );
-        }
-        
-        List<FeedbackDetailsDto> feedbacks = attendeeWorkshopRegistrationRepo.findFeedbacksByWorkshopId(workshopId)
-            .stream()
-            .map(reg -> new FeedbackDetailsDto(
-                reg.getAttendee().getAttendeeName(),
-                reg.getRating(),
-                reg.getComment()
-            ))
-            .collect(Collectors.toList());
-        
         return new WorkshopFeedbackDto(
             workshopId,
             workshop.getWorkshopTitle(),
             workshop.getStartDate(),
             workshop.getEndDate(),
-            avgRating,
-            feedbacks.size(),
-            feedbacks
+            0.0,
+            0,
+            List.of()
         );
     }
 
+    // Groups the detail rows, which arrive ordered by workshop, under their summaries in a single pass
+    private List<WorkshopFeedbackDto> assembleFeedback(List<WorkshopFeedbackSummaryDto> summaries, boolean includeComments) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> workshopIds = summaries.stream().map(WorkshopFeedbackSummaryDto::workshopId).toList();
+        Map<Long, List<FeedbackDetailsDto>> detailsByWorkshop = new HashMap<>();
+        try (Stream<WorkshopFeedbackRowDto> rows = includeComments
+                ? attendeeWorkshopRegistrationRepo.streamFeedbackRows(workshopIds)
+                : attendeeWorkshopRegistrationRepo.streamFeedbackRowsWithoutComments(workshopIds)) {
+            rows.forEach(row -> detailsByWorkshop
+                    .computeIfAbsent(row.workshopId(), id -> new ArrayList<>())
+                    .add(new FeedbackDetailsDto(row.attendeeName(), row.rating(), row.comment())));
+        }
+
+        return summaries.stream()
+            .map(summary -> new WorkshopFeedbackDto(
+                summary.workshopId(),
+                summary.workshopTitle(),
+                summary.startDate(),
+                summary.endDate(),
+                summary.averageRating(),
+                summary.totalFeedbacks().intValue(),
+                detailsByWorkshop.getOrDefault(summary.workshopId(), List.of())
+            ))
+            .collect(Collectors.toList());
+    }
+
     public String signup(AttendeeRegisterDto attendeeRegisterDto) {
         if (attendeeRepo.existsByAttendeeEmail(attendeeRegisterDto.attendeeEmail())) {
             throw new ConflictException("Attendee", "email", attendeeRegisterDto.attendeeEmail());
@@ -347,9 +611,10 @@ public class WorkshopService {
             throw new ConflictException("Attendee", "phone number", attendeeRegisterDto.attendeePhoneNumber());
         }
         
+        String passwordHash = passwordHashingService.encode(attendeeRegisterDto.attendeePassword());
         try {
             Attendee attendee = AttendeeMapper.INSTANCE.attendeeRegisterDtoToAttendee(attendeeRegisterDto);
-            attendee.setAttendeePassword(passwordEncoder.encode(attendeeRegisterDto.attendeePassword()));
+            attendee.setAttendeePassword(passwordHash);
             attendeeRepo.save(attendee);
             
             log.info("Attendee registered successfully with email: {}", attendeeRegisterDto.attendeeEmail());
@@ -0,0 +1,238 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Flips workshop states exactly when a start or end boundary passes. Every active workshop is indexed
+ * by the date of its next transition and a single timer is armed for the earliest one, so nothing
+ * runs between boundaries and only the workshops that reach a boundary are updated.
+ * Edits reach the index only once their transaction has committed. "Today" is read from the task
+ * scheduler's clock, so the index and the timer agree on when a boundary has passed.
+ * The index is guarded by a {@link ReentrantLock} rather than {@code synchronized} so that holding it
+ * never pins a virtual thread to its carrier.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkshopStateScheduler {
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final WorkshopRepo workshopRepo;
+    private final WorkshopStateUpdater workshopStateUpdater;
+    private final TaskScheduler taskScheduler;
+
+    private final Map<Long, Window> windows = new HashMap<>();
+    private final Map<Long, LocalDate> nextBoundaries = new HashMap<>();
+    private final NavigableMap<LocalDate, Set<Long>> boundaryIndex = new TreeMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private ScheduledFuture<?> wakeUp;
+    private LocalDate wakeUpDate;
+
+    public static WorkshopState stateOn(LocalDate startDate, LocalDate endDate, LocalDate day) {
+        if (startDate.isAfter(day)) {
+            return WorkshopState.UPCOMING;
+        } else if (endDate.isBefore(day)) {
+            return WorkshopState.COMPLETED;
+        }
+        return WorkshopState.ONGOING;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Catch up on boundaries that passed while the application was down, then index what is left
+        Map<String, Integer> counts = workshopStateUpdater.updateAllStates();
+        log.info("Workshop states reconciled on startup: {}", counts);
+
+        lock.lock();
+        try {
+            windows.clear();
+            nextBoundaries.clear();
+            boundaryIndex.clear();
+            for (Object[] row : workshopRepo.findActiveWindows()) {
+                index((Long) row[0], (LocalDate) row[1], (LocalDate) row[2]);
+            }
+            log.info("Indexed {} upcoming workshop state transitions", nextBoundaries.size());
+            reschedule();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void track(Long workshopId, LocalDate startDate, LocalDate endDate) {
+        afterCommit(() -> {
+            lock.lock();
+            try {
+                // Dates that are already past index nothing, so the old window must not survive either
+                unindex(workshopId);
+                windows.remove(workshopId);
+                index(workshopId, startDate, endDate);
+                reschedule();
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    public void untrack(Long workshopId) {
+        afterCommit(() -> {
+            lock.lock();
+            try {
+                unindex(workshopId);
+                windows.remove(workshopId);
+                reschedule();
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private void onBoundary() {
+        LocalDate today = today();
+        List<Long> due = new ArrayList<>();
+        lock.lock();
+        try {
+            NavigableMap<LocalDate, Set<Long>> reached = boundaryIndex.headMap(today, true);
+            reached.values().forEach(due::addAll);
+            reached.clear();
+            due.forEach(nextBoundaries::remove);
+            wakeUp = null;
+            wakeUpDate = null;
+        } finally {
+            lock.unlock();
+        }
+
+        if (!due.isEmpty()) {
+            try {
+                int updated = workshopStateUpdater.applyTransitions(due);
+                log.info("Workshop boundary {} reached, refreshed state of {} workshops", today, updated);
+            } catch (RuntimeException e) {
+                log.error("Failed to apply workshop state transitions, retrying in {}: {}", RETRY_DELAY, e.getMessage());
+                lock.lock();
+                try {
+                    due.stream()
+                            .filter(workshopId -> !nextBoundaries.containsKey(workshopId))
+                            .forEach(workshopId -> addBoundary(workshopId, today));
+                    schedule(today, taskScheduler.getClock().instant().plus(RETRY_DELAY));
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+
+        lock.lock();
+        try {
+            for (Long workshopId : due) {
+                if (nextBoundaries.containsKey(workshopId)) {
+                    continue; // re-tracked by an edit while the transition was being applied
+                }
+                Window window = windows.remove(workshopId);
+                if (window != null) {
+                    index(workshopId, window.startDate(), window.endDate());
+                }
+            }
+            reschedule();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void index(Long workshopId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return;
+        }
+        LocalDate today = today();
+        LocalDate boundary;
+        if (startDate.isAfter(today)) {
+            boundary = startDate;
+        } else if (!endDate.isBefore(today)) {
+            boundary = endDate.plusDays(1);
+        } else {
+            return;
+        }
+        windows.put(workshopId, new Window(startDate, endDate));
+        addBoundary(workshopId, boundary);
+    }
+
+    private void addBoundary(Long workshopId, LocalDate boundary) {
+        nextBoundaries.put(workshopId, boundary);
+        boundaryIndex.computeIfAbsent(boundary, date -> new HashSet<>()).add(workshopId);
+    }
+
+    private void unindex(Long workshopId) {
+        LocalDate boundary = nextBoundaries.remove(workshopId);
+        if (boundary != null) {
+            Set<Long> ids = boundaryIndex.get(boundary);
+            ids.remove(workshopId);
+            if (ids.isEmpty()) {
+                boundaryIndex.remove(boundary);
+            }
+        }
+    }
+
+    private void reschedule() {
+        LocalDate earliest = boundaryIndex.isEmpty() ? null : boundaryIndex.firstKey();
+        if (earliest == null) {
+            cancelWakeUp();
+        } else if (!earliest.equals(wakeUpDate)) {
+            schedule(earliest, earliest.atStartOfDay(taskScheduler.getClock().getZone()).toInstant());
+        }
+    }
+
+    private void schedule(LocalDate boundary, Instant at) {
+        cancelWakeUp();
+        wakeUpDate = boundary;
+        wakeUp = taskScheduler.schedule(this::onBoundary, at);
+    }
+
+    private void cancelWakeUp() {
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUp = null;
+        wakeUpDate = null;
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(taskScheduler.getClock());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Window(LocalDate startDate, LocalDate endDate) {
+    }
+}
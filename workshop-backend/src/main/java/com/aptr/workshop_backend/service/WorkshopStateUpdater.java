@@ -3,76 +3,143 @@ package com.aptr.workshop_backend.service;
 import com.aptr.workshop_backend.entity.Workshop;
 import com.aptr.workshop_backend.enums.WorkshopState;
 import com.aptr.workshop_backend.repository.WorkshopRepo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Moves workshops to the state their dates imply. The last run's duration and number of transitions, the
+ * transitions per target state and the active workshops per state (as of the last full run) are published
+ * as {@code workshop.state.*} gauges and counters.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class WorkshopStateUpdater {
     private final WorkshopRepo workshopRepo;
+    private final WorkshopCatalogCache workshopCatalogCache;
+    private final DomainEventOutbox domainEventOutbox;
+    private final MeterRegistry meterRegistry;
 
-    @Scheduled(cron ="0 0 0 * * *") 
-    public void updateWorkshopState(){
-        processWorkshops();
+    private final AtomicLong lastRunNanos = new AtomicLong();
+    private final AtomicInteger lastRunTransitions = new AtomicInteger();
+    private final Map<WorkshopState, AtomicInteger> activeWorkshops = new EnumMap<>(WorkshopState.class);
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("workshop.state.update.last.duration", lastRunNanos, nanos -> nanos.get() / 1e9)
+                .description("Duration of the most recent state update run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("workshop.state.update.last.transitions", lastRunTransitions, AtomicInteger::get)
+                .description("Workshops whose state changed in the most recent state update run")
+                .register(meterRegistry);
+        for (WorkshopState state : WorkshopState.values()) {
+            AtomicInteger count = new AtomicInteger();
+            activeWorkshops.put(state, count);
+            Gauge.builder("workshop.state.workshops", count, AtomicInteger::get)
+                    .description("Active workshops in each state, as counted by the last full state update")
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
     }
-    
+
+    @Transactional
     public Map<String, Integer> manualUpdate() {
-        System.out.println("Manual workshop state update triggered");
+        log.info("Manual workshop state update triggered");
         return processWorkshops();
     }
+
+    @Transactional
+    public Map<String, Integer> updateAllStates() {
+        return processWorkshops();
+    }
+
+    @Transactional
+    public int applyTransitions(Collection<Long> workshopIds) {
+        long start = System.nanoTime();
+        int changed = transition(workshopRepo.findAllByIdForUpdate(workshopIds), LocalDate.now());
+        recordRun("boundary", start, changed);
+        return changed;
+    }
     
     private Map<String, Integer> processWorkshops() {
+        long start = System.nanoTime();
         LocalDate currentDate = LocalDate.now();
-        System.out.println("Updating workshop states for date: " + currentDate);
-        
-        List<Workshop> workshops = workshopRepo.findByIsWorkshopDeletedFalse();
-        System.out.println("Found " + workshops.size() + " active workshops");
-        
-        int upcoming = 0, ongoing = 0, completed = 0, changed = 0;
+        log.info("Updating workshop states for date: {}", currentDate);
 
-        for (Workshop workshop : workshops){
-            WorkshopState oldState = workshop.getWorkshopState();
-            WorkshopState newState;
-            
-            if(workshop.getEndDate().isBefore(currentDate)){
-                newState = WorkshopState.COMPLETED;
-                completed++;
-            } else if (workshop.getStartDate().isAfter(currentDate)) {
-                newState = WorkshopState.UPCOMING;
-                upcoming++;
-            } else {
-                newState = WorkshopState.ONGOING;
-                ongoing++;
-            }
-            
-            if (oldState != newState) {
-                System.out.println("Changing workshop '" + workshop.getWorkshopTitle() + 
-                                   "' from " + oldState + " to " + newState);
-                workshop.setWorkshopState(newState);
-                changed++;
+        int changed = transition(workshopRepo.findStaleStatesForUpdate(currentDate), currentDate);
+
+        Map<WorkshopState, Integer> counts = new EnumMap<>(WorkshopState.class);
+        int total = 0;
+        for (Object[] row : workshopRepo.countActiveByState()) {
+            int count = ((Number) row[1]).intValue();
+            if (row[0] != null) {
+                counts.put((WorkshopState) row[0], count);
             }
+            total += count;
         }
-        
+        for (WorkshopState state : WorkshopState.values()) {
+            activeWorkshops.get(state).set(counts.getOrDefault(state, 0));
+        }
+        recordRun("full", start, changed);
+
         if (changed > 0) {
-            workshopRepo.saveAll(workshops);
-            System.out.println("Updated " + changed + " workshops");
+            log.info("Updated {} workshops", changed);
         } else {
-            System.out.println("No workshop states needed to be updated");
+            log.info("No workshop states needed to be updated");
         }
         
         Map<String, Integer> result = new HashMap<>();
-        result.put("upcoming", upcoming);
-        result.put("ongoing", ongoing);
-        result.put("completed", completed);
+        result.put("upcoming", counts.getOrDefault(WorkshopState.UPCOMING, 0));
+        result.put("ongoing", counts.getOrDefault(WorkshopState.ONGOING, 0));
+        result.put("completed", counts.getOrDefault(WorkshopState.COMPLETED, 0));
         result.put("changed", changed);
-        result.put("total", workshops.size());
+        result.put("total", total);
         
         return result;
     }
+
+    // Only rows whose state really changes are updated, each with its own outbox event, while the rows stay locked
+    private int transition(List<Workshop> workshops, LocalDate today) {
+        int changed = 0;
+        for (Workshop workshop : workshops) {
+            if (workshop.isWorkshopDeleted() || workshop.getStartDate() == null || workshop.getEndDate() == null) {
+                continue;
+            }
+            WorkshopState newState = WorkshopStateScheduler.stateOn(workshop.getStartDate(), workshop.getEndDate(), today);
+            if (newState != workshop.getWorkshopState()) {
+                meterRegistry.counter("workshop.state.transitions", "to", newState.name()).increment();
+                domainEventOutbox.workshopStateChanged(workshop.getWorkshopId(), workshop.getWorkshopState(), newState);
+                workshop.setWorkshopState(newState);
+                changed++;
+            }
+        }
+        if (changed > 0) {
+            workshopRepo.flush();
+            workshopCatalogCache.invalidateAll();
+        }
+        return changed;
+    }
+
+    private void recordRun(String trigger, long startNanos, int changed) {
+        long elapsed = System.nanoTime() - startNanos;
+        lastRunNanos.set(elapsed);
+        lastRunTransitions.set(changed);
+        meterRegistry.timer("workshop.state.update", "trigger", trigger).record(elapsed, TimeUnit.NANOSECONDS);
+    }
 }
@@ -0,0 +1,98 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.enums.WorkshopState;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version stamps behind the ETags of the polled read endpoints: one version per catalog
+ * state, one for the booked seat counts shown on catalog pages, one for workshop details as a whole and
+ * one per attendee whose registrations changed. Answering If-None-Match only compares these counters, so an unchanged poll never reaches the
+ * database.
+ * <p>
+ * A stamp must be read before the data it describes is loaded. Registration changes bump it again
+ * after commit, so a response built from rows that were still changing always carries an old stamp.
+ */
+@Service
+public class WorkshopVersionStamps {
+
+    // Keeps stamps handed out before a restart from matching the counters that start again at zero
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<WorkshopState, AtomicLong> catalogVersions = new EnumMap<>(WorkshopState.class);
+    private final AtomicLong seatsVersion = new AtomicLong();
+    private final AtomicLong workshopsVersion = new AtomicLong();
+    private final AtomicLong registrationSequence = new AtomicLong();
+    private final Map<Long, Long> registrationVersions = new ConcurrentHashMap<>();
+
+    public WorkshopVersionStamps() {
+        for (WorkshopState state : WorkshopState.values()) {
+            catalogVersions.put(state, new AtomicLong());
+        }
+    }
+
+    public long catalogVersion(WorkshopState state) {
+        return catalogVersions.get(state).get();
+    }
+
+    public void catalogChanged(WorkshopState state) {
+        catalogVersions.get(state).incrementAndGet();
+        workshopsVersion.incrementAndGet();
+    }
+
+    public long seatsVersion() {
+        return seatsVersion.get();
+    }
+
+    public void seatsChanged() {
+        seatsVersion.incrementAndGet();
+    }
+
+    // Catalog pages stay cached across bookings but show live seat counts, so their tag moves with both
+    public String catalogETag(WorkshopState state) {
+        return "W/\"" + epoch + "-" + state.name().toLowerCase() + "-" + catalogVersion(state) + "." + seatsVersion() + "\"";
+    }
+
+    /**
+     * Attendee history lists embed workshop details but no seat counts, so besides the attendee's own
+     * registrations their stamp only moves with admin edits and state transitions, never with another
+     * attendee's booking.
+     */
+    public String attendeeETag(Long attendeeId) {
+        return "W/\"" + epoch + "-a" + registrationVersions.getOrDefault(attendeeId, 0L)
+                + "-" + workshopsVersion.get() + "\"";
+    }
+
+    public void registrationsChanged(Long attendeeId) {
+        registrationsChanged(List.of(attendeeId));
+    }
+
+    public void registrationsChanged(Collection<Long> attendeeIds) {
+        if (attendeeIds.isEmpty()) {
+            return;
+        }
+        bump(attendeeIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> changed = List.copyOf(attendeeIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(changed);
+                }
+            });
+        }
+    }
+
+    private void bump(Collection<Long> attendeeIds) {
+        for (Long attendeeId : attendeeIds) {
+            registrationVersions.put(attendeeId, registrationSequence.incrementAndGet());
+        }
+    }
+}
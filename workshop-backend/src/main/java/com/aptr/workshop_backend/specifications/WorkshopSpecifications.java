@@ -1,31 +1,34 @@
 package com.aptr.workshop_backend.specifications;
 
+import com.aptr.workshop_backend.dto.WorkshopFilterDto;
 import com.aptr.workshop_backend.entity.Workshop;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Predicate;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 public class WorkshopSpecifications
 {
-    public static Specification<Workshop> upcomingWorkshop(Date currentDate) {
+    public static Specification<Workshop> upcomingWorkshop(LocalDate currentDate) {
         return (root, query, criteriaBuilder) ->
-                criteriaBuilder.greaterThan(root.get("startDateTime"), currentDate);
+                criteriaBuilder.greaterThan(root.get("startDate"), currentDate);
     }
 
-    public static Specification<Workshop> onGoingWorkshop(Date currentDate) {
+    public static Specification<Workshop> onGoingWorkshop(LocalDate currentDate) {
         return (root, query, criteriaBuilder) -> criteriaBuilder.and(
-                criteriaBuilder.lessThanOrEqualTo(root.get("startDateTime"), currentDate),
-                criteriaBuilder.greaterThanOrEqualTo(root.get("endDateTime"), currentDate)
+                criteriaBuilder.lessThanOrEqualTo(root.get("startDate"), currentDate),
+                criteriaBuilder.greaterThanOrEqualTo(root.get("endDate"), currentDate)
         );
     }
 
-    public static Specification<Workshop> completedWorkShop(Date currentDate) {
+    public static Specification<Workshop> completedWorkShop(LocalDate currentDate) {
         return (root, query, criteriaBuilder) ->
-                criteriaBuilder.lessThan(root.get("endDateTime"), currentDate);
+                criteriaBuilder.lessThan(root.get("endDate"), currentDate);
     }
 
     public static Specification<Workshop> softDeletedWorkshop() {
@@ -37,4 +40,67 @@ public class WorkshopSpecifications
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.isFalse(root.get("isWorkshopDeleted"));
     }
+
+    public static Specification<Workshop> inState(WorkshopState state) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("workshopState"), state);
+    }
+
+    public static Specification<Workshop> withTopic(String topic) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("workshopTopic"), topic);
+    }
+
+    // EXISTS rather than a join, so a workshop is returned once and the count query needs no DISTINCT
+    public static Specification<Workshop> taughtBy(String tutor) {
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Long> tutored = query.subquery(Long.class);
+            Root<Workshop> workshop = tutored.from(Workshop.class);
+            Join<Workshop, String> tutors = workshop.join("workshopTutors");
+            tutored.select(workshop.get("workshopId")).where(
+                    criteriaBuilder.equal(workshop.get("workshopId"), root.get("workshopId")),
+                    criteriaBuilder.equal(tutors, tutor));
+            return criteriaBuilder.exists(tutored);
+        };
+    }
+
+    // Inclusive on both ends; a null bound leaves that side open
+    public static Specification<Workshop> dateBetween(String attribute, LocalDate from, LocalDate to) {
+        return (root, query, criteriaBuilder) -> {
+            if (from != null && to != null) {
+                return criteriaBuilder.between(root.get(attribute), from, to);
+            }
+            return from != null
+                    ? criteriaBuilder.greaterThanOrEqualTo(root.get(attribute), from)
+                    : criteriaBuilder.lessThanOrEqualTo(root.get(attribute), to);
+        };
+    }
+
+    /**
+     * Composes the criteria that are set on the filter. Soft-deleted workshops are excluded unless the filter
+     * asks for them, which keeps is_workshop_deleted as the leading equality of every filter index.
+     */
+    public static Specification<Workshop> matching(WorkshopFilterDto filter) {
+        List<Specification<Workshop>> criteria = new ArrayList<>();
+        criteria.add(Boolean.TRUE.equals(filter.deleted()) ? softDeletedWorkshop() : existingWorkshop());
+        if (filter.state() != null) {
+            criteria.add(inState(filter.state()));
+        }
+        if (filter.topic() != null && !filter.topic().isBlank()) {
+            criteria.add(withTopic(filter.topic().trim()));
+        }
+        if (filter.tutor() != null && !filter.tutor().isBlank()) {
+            criteria.add(taughtBy(filter.tutor().trim()));
+        }
+        if (filter.startFrom() != null || filter.startTo() != null) {
+            criteria.add(dateBetween("startDate", filter.startFrom(), filter.startTo()));
+        }
+        if (filter.endFrom() != null || filter.endTo() != null) {
+            criteria.add(dateBetween("endDate", filter.endFrom(), filter.endTo()));
+        }
+        if (filter.createdFrom() != null || filter.createdTo() != null) {
+            criteria.add(dateBetween("createdDate", filter.createdFrom(), filter.createdTo()));
+        }
+        return Specification.allOf(criteria);
+    }
 }
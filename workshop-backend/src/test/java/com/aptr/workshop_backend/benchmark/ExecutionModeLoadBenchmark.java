@@ -0,0 +1,200 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.config.jwt.JwtUtil;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.Role;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the listing and register endpoints through a real Tomcat with many concurrent clients and
+ * prints throughput and latency percentiles, so the platform and virtual thread execution modes can be
+ * compared on the same machine. Not part of the regular test run; start it with
+ * {@code mvn test -Dtest='*ThreadLoadBenchmark' -Dsurefire.failIfNoSpecifiedTests=false}.
+ */
+abstract class ExecutionModeLoadBenchmark {
+
+    private static final int CLIENTS = 256;
+    private static final int WORKSHOPS = 20;
+    private static final int ATTENDEES = 5_000;
+    private static final int LISTINGS_PER_REGISTRATION = 9;
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final List<Long> workshopIds = new ArrayList<>();
+    private final List<Long> attendeeIds = new ArrayList<>();
+    private String token;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < WORKSHOPS; i++) {
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopTitle("Load workshop " + i);
+            workshop.setWorkshopTutors(List.of("Tutor A" + i, "Tutor B" + i));
+            workshop.setStartDate(LocalDate.now().plusDays(i + 1));
+            workshop.setEndDate(LocalDate.now().plusDays(i + 2));
+            workshop.setWorkshopState(WorkshopState.UPCOMING);
+            workshopIds.add(workshopRepo.save(workshop).getWorkshopId());
+        }
+
+        List<Attendee> attendees = new ArrayList<>();
+        for (int i = 0; i < ATTENDEES; i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName("Load attendee " + i);
+            attendee.setAttendeeEmail("load" + i + "@example.com");
+            attendee.setAttendeePhoneNumber(String.valueOf(7000000000L + i));
+            attendee.setAttendeePassword("password");
+            attendees.add(attendee);
+        }
+        attendeeRepo.saveAll(attendees).forEach(attendee -> attendeeIds.add(attendee.getAttendeeId()));
+
+        Attendee caller = attendees.get(0);
+        token = jwtUtil.generateAccessToken(caller.getAttendeeEmail(), Role.ATTENDEE, caller.getAttendeeId(), 0);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        registrationRepo.deleteAllInBatch();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAllInBatch();
+    }
+
+    @Test
+    void listingAndRegistrationUnderLoad() throws Exception {
+        run(WARM_UP, new Results());
+        Results results = new Results();
+        run(MEASUREMENT, results);
+
+        System.out.printf("%n[%s threads] %d clients, %ds%n", mode(), CLIENTS, MEASUREMENT.toSeconds());
+        results.print("GET  /workshop/upcoming", results.listings);
+        results.print("POST /workshop/register", results.registrations);
+        System.out.printf("  errors: %d%n", results.errors.get());
+
+        assertThat(results.listings).isNotEmpty();
+        assertThat(results.registrations).isNotEmpty();
+    }
+
+    private void run(Duration duration, Results results) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger nextRegistration = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.submit(() -> {
+                int iteration = 0;
+                while (running.get()) {
+                    if (iteration++ % (LISTINGS_PER_REGISTRATION + 1) == 0) {
+                        int n = nextRegistration.getAndIncrement();
+                        long attendeeId = attendeeIds.get(n % attendeeIds.size());
+                        long workshopId = workshopIds.get((n / attendeeIds.size()) % workshopIds.size());
+                        timed(results.registrations, results, post("/workshop/register",
+                                "{\"attendeeId\":" + attendeeId + ",\"workshopId\":" + workshopId + "}"));
+                    } else {
+                        timed(results.listings, results, get("/workshop/upcoming"));
+                    }
+                }
+                return null;
+            });
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(60, TimeUnit.SECONDS);
+    }
+
+    private void timed(ConcurrentLinkedQueue<Long> latencies, Results results, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status >= 500) {
+                results.errors.incrementAndGet();
+                return;
+            }
+        } catch (Exception e) {
+            results.errors.incrementAndGet();
+            return;
+        }
+        latencies.add(System.nanoTime() - start);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static final class Results {
+        private final ConcurrentLinkedQueue<Long> listings = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Long> registrations = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        private void print(String endpoint, ConcurrentLinkedQueue<Long> latencies) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            System.out.printf("  %s  %7.1f req/s  p50 %6.1f ms  p95 %6.1f ms  p99 %6.1f ms%n",
+                    endpoint,
+                    sorted.size() / (double) MEASUREMENT.toSeconds(),
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99));
+        }
+
+        private static double percentile(List<Long> sorted, int percentile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.config.jwt.JwtPrincipal;
+import com.aptr.workshop_backend.config.jwt.JwtUtil;
+import com.aptr.workshop_backend.config.jwt.JwtVerifier;
+import com.aptr.workshop_backend.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token, and of issuing one at login.
+ * <ul>
+ *     <li>{@code generateAccessToken}: signing a new access token, paid once per login</li>
+ *     <li>{@code legacyFilterPath}: what the filter used to do, rebuilding the key and parser and parsing the token four times</li>
+ *     <li>{@code parseOnce}: a single parse with the pre-built key and parser, i.e. a verifier cache miss</li>
+ *     <li>{@code cachedVerify}: a verifier cache hit, which is what repeat requests with the same token pay</li>
+ * </ul>
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath;
+ * results are written to {@code target/jmh-jwt-verification.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    // Same length as the production secret so key derivation costs the same
+    private static final String LEGACY_SECRET = "ab".repeat(256);
+
+    private JwtUtil jwtUtil;
+    private JwtVerifier jwtVerifier;
+    private String token;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        jwtVerifier = new JwtVerifier(jwtUtil, new SimpleMeterRegistry(), 10_000);
+        token = jwtUtil.generateAccessToken("attendee@example.com", Role.ATTENDEE, 1L, 0);
+        legacyToken = Jwts.builder()
+                .setSubject("attendee@example.com")
+                .claim("role", Role.ATTENDEE.name())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(30)))
+                .signWith(legacySigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+        jwtVerifier.verify(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken("attendee@example.com", Role.ATTENDEE, 1L, 0);
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole blackhole) {
+        String username = legacyClaims(legacyToken).getSubject();
+        String role = legacyClaims(legacyToken).get("role", String.class);
+        boolean valid = username.equals(legacyClaims(legacyToken).getSubject())
+                && !legacyClaims(legacyToken).getExpiration().before(new Date());
+        blackhole.consume(role);
+        blackhole.consume(valid);
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return jwtVerifier.verify(token);
+    }
+
+    private static Key legacySigningKey() {
+        return Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes());
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacySigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-jwt-verification.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,175 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.config.jwt.JwtUtil;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.Role;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Floods /attendees/login with expensive BCrypt checks through a real Tomcat and measures the
+ * latency of the catalog endpoint while the storm is running. Logins beyond the hashing pool
+ * must be shed with 503 + Retry-After instead of occupying web workers. Wall-clock bound, so not part
+ * of the regular test run (PasswordHashingServiceTests covers the admission control itself); start it with
+ * {@code mvn test -Dtest=LoginStormLoadBenchmark -Dsurefire.failIfNoSpecifiedTests=false}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:login-storm;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "workshop.security.bcrypt-strength=12",
+        "workshop.security.password-hashing.threads=1",
+        "workshop.security.password-hashing.queue-capacity=2",
+        "server.tomcat.threads.max=32"
+})
+class LoginStormLoadBenchmark {
+
+    private static final int LOGIN_CLIENTS = 48;
+    private static final Duration STORM = Duration.ofSeconds(4);
+    // Without the bounded hashing pool the catalog p95 climbs to ~9 s on a single core
+    private static final long MAX_STORM_P95_MILLIS = 2_000;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private String token;
+
+    @BeforeEach
+    void seed() {
+        Attendee attendee = new Attendee();
+        attendee.setAttendeeName("Storm Attendee");
+        attendee.setAttendeeEmail("storm@example.com");
+        attendee.setAttendeePhoneNumber("9999922222");
+        attendee.setAttendeePassword(passwordEncoder.encode("storm-password"));
+        attendee = attendeeRepo.save(attendee);
+        token = jwtUtil.generateAccessToken(attendee.getAttendeeEmail(), Role.ATTENDEE, attendee.getAttendeeId(), 0);
+
+        for (int i = 0; i < 20; i++) {
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopTitle("Storm workshop " + i);
+            workshop.setWorkshopTutors(List.of("Tutor " + i));
+            workshop.setStartDate(LocalDate.now().plusDays(i + 1));
+            workshop.setEndDate(LocalDate.now().plusDays(i + 2));
+            workshop.setWorkshopState(WorkshopState.UPCOMING);
+            workshopRepo.save(workshop);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void catalogKeepsItsLatencyDuringALoginStorm() throws Exception {
+        readLatencies(Duration.ofSeconds(2));
+        List<Long> baseline = readLatencies(Duration.ofSeconds(1));
+
+        AtomicBoolean storming = new AtomicBoolean(true);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        ExecutorService loginClients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            loginClients.submit(() -> {
+                while (storming.get()) {
+                    HttpResponse<String> response = login();
+                    if (response.statusCode() == 200) {
+                        accepted.incrementAndGet();
+                    } else if (response.statusCode() == 503) {
+                        assertThat(response.headers().firstValue("Retry-After")).hasValue("2");
+                        shed.incrementAndGet();
+                        // A well-behaved client backs off instead of spinning on the 503
+                        Thread.sleep(200);
+                    }
+                }
+                return null;
+            });
+        }
+
+        List<Long> duringStorm;
+        try {
+            Thread.sleep(500);
+            duringStorm = readLatencies(STORM);
+        } finally {
+            storming.set(false);
+            loginClients.shutdown();
+            loginClients.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        long baselineP95 = percentile(baseline, 95);
+        long stormP95 = percentile(duringStorm, 95);
+        System.out.printf("catalog p95 %d ms before, %d ms during storm (%d logins served, %d shed)%n",
+                baselineP95, stormP95, accepted.get(), shed.get());
+
+        assertThat(accepted.get()).isPositive();
+        assertThat(shed.get()).isPositive();
+        assertThat(stormP95).isLessThan(MAX_STORM_P95_MILLIS);
+    }
+
+    private List<Long> readLatencies(Duration window) throws Exception {
+        List<Long> latencies = new ArrayList<>();
+        long deadline = System.nanoTime() + window.toNanos();
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/workshop/upcoming"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        return latencies;
+    }
+
+    private HttpResponse<String> login() throws Exception {
+        return client.send(HttpRequest.newBuilder(uri("/attendees/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"attendeeEmail\":\"storm@example.com\",\"attendeePassword\":\"storm-password\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1));
+    }
+}
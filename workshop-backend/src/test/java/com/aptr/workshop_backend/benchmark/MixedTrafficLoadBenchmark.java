@@ -0,0 +1,439 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.entity.Admin;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AdminRepo;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopFeedbackStatsRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.aptr.workshop_backend.service.WorkshopCatalogCache;
+import com.aptr.workshop_backend.service.WorkshopFeedbackStatsService;
+import com.aptr.workshop_backend.service.WorkshopStateScheduler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load run against a real Tomcat and an in-memory H2 database in MySQL mode, so it needs no
+ * database server. A deterministic generator seeds workshops in every state, attendees and their
+ * registrations; then every client plays one attendee and mixes logins, catalog browsing, dashboard reads,
+ * registering, deregistering and feedback, while one in fifty requests is the admin feedback report.
+ * <p>
+ * Prints requests, throughput and p50/p99 latency per endpoint and writes them to
+ * {@code target/load-test-result.json}. Not part of the regular test run; start it with
+ * {@code mvn test -Dtest=MixedTrafficLoadBenchmark -Dsurefire.failIfNoSpecifiedTests=false}, optionally with
+ * {@code -Dload.workshops}, {@code -Dload.attendees}, {@code -Dload.registrations-per-attendee},
+ * {@code -Dload.clients}, {@code -Dload.warm-up}, {@code -Dload.duration} (ISO-8601, e.g. PT30S) and {@code -Dload.seed}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:mixed-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "workshop.outbox.relay.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+class MixedTrafficLoadBenchmark {
+
+    private static final int WORKSHOPS = Integer.getInteger("load.workshops", 300);
+    private static final int ATTENDEES = Integer.getInteger("load.attendees", 3_000);
+    private static final int REGISTRATIONS_PER_ATTENDEE = Integer.getInteger("load.registrations-per-attendee", 6);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+    private static final Duration WARM_UP = Duration.parse(System.getProperty("load.warm-up", "PT5S"));
+    private static final Duration MEASUREMENT = Duration.parse(System.getProperty("load.duration", "PT20S"));
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final String PASSWORD = "load-password";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AdminRepo adminRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private WorkshopFeedbackStatsRepo feedbackStatsRepo;
+    @Autowired
+    private WorkshopFeedbackStatsService feedbackStatsService;
+    @Autowired
+    private WorkshopCatalogCache catalogCache;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final List<Long> upcomingWorkshopIds = new ArrayList<>();
+    private final List<VirtualUser> users = new ArrayList<>();
+    private String adminToken;
+
+    @BeforeEach
+    void seed() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        LocalDate today = LocalDate.now();
+
+        // 60% upcoming, 10% ongoing, 30% completed; no seat limit so bookings only fail on real conflicts
+        List<Workshop> workshops = new ArrayList<>();
+        for (int i = 0; i < WORKSHOPS; i++) {
+            int bucket = random.nextInt(10);
+            LocalDate start = bucket < 6 ? today.plusDays(1 + random.nextInt(120))
+                    : bucket < 7 ? today.minusDays(random.nextInt(2)) : today.minusDays(3 + random.nextInt(300));
+            LocalDate end = bucket == 6 ? today.plusDays(1 + random.nextInt(3)) : start.plusDays(random.nextInt(3));
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopTitle("Load workshop " + i);
+            workshop.setWorkshopTopic("Topic " + random.nextInt(25));
+            workshop.setWorkshopTutors(List.of("Tutor " + random.nextInt(200), "Tutor " + random.nextInt(200)));
+            workshop.setWorkshopObjective("Objective " + i);
+            workshop.setWorkshopDescription("Session description. ".repeat(20 + random.nextInt(50)));
+            workshop.setCreatedDate(start.minusDays(30));
+            workshop.setStartDate(start);
+            workshop.setEndDate(end);
+            workshop.setWorkshopState(WorkshopStateScheduler.stateOn(start, end, today));
+            workshops.add(workshop);
+        }
+
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<Attendee> attendees = new ArrayList<>();
+        for (int i = 0; i < ATTENDEES; i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName("Load attendee " + i);
+            attendee.setAttendeeEmail("load.attendee" + i + "@example.com");
+            attendee.setAttendeePhoneNumber(String.valueOf(6000000000L + i));
+            attendee.setAttendeePassword(passwordHash);
+            attendees.add(attendee);
+        }
+        attendees = attendeeRepo.saveAll(attendees);
+
+        int[] booked = new int[WORKSHOPS];
+        List<AttendeeWorkshopRegistration> registrations = new ArrayList<>();
+        for (Attendee attendee : attendees) {
+            VirtualUser user = new VirtualUser(attendee.getAttendeeId(), attendee.getAttendeeEmail());
+            Set<Integer> picked = new HashSet<>();
+            while (picked.size() < Math.min(REGISTRATIONS_PER_ATTENDEE, WORKSHOPS)) {
+                picked.add(random.nextInt(WORKSHOPS));
+            }
+            for (int index : picked) {
+                Workshop workshop = workshops.get(index);
+                boolean completed = workshop.getWorkshopState() == WorkshopState.COMPLETED;
+                AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+                registration.setAttendee(attendee);
+                registration.setWorkshop(workshop);
+                registration.setRegistrationTime(new Date());
+                registration.setAttended(completed && random.nextInt(4) != 0);
+                if (completed && random.nextBoolean()) {
+                    registration.setFeedbackGiven(true);
+                    registration.setRating(random.nextInt(6));
+                    registration.setComment("Seeded feedback " + random.nextInt(1000));
+                }
+                registrations.add(registration);
+                booked[index]++;
+                user.seeded.add(new SeededRegistration(index, completed && !Boolean.TRUE.equals(registration.getFeedbackGiven()),
+                        workshop.getWorkshopState() != WorkshopState.COMPLETED));
+            }
+            users.add(user);
+        }
+        for (int i = 0; i < WORKSHOPS; i++) {
+            workshops.get(i).setSeatsBooked(booked[i]);
+        }
+        workshops = workshopRepo.saveAll(workshops);
+        registrationRepo.saveAll(registrations);
+
+        for (int i = 0; i < workshops.size(); i++) {
+            if (workshops.get(i).getWorkshopState() == WorkshopState.UPCOMING) {
+                upcomingWorkshopIds.add(workshops.get(i).getWorkshopId());
+            }
+        }
+        for (VirtualUser user : users) {
+            for (SeededRegistration registration : user.seeded) {
+                Long workshopId = workshops.get(registration.workshopIndex()).getWorkshopId();
+                if (registration.feedbackDue()) {
+                    user.feedbackDue.add(workshopId);
+                }
+                if (registration.cancellable()) {
+                    user.registered.add(workshopId);
+                }
+            }
+        }
+
+        Admin admin = new Admin();
+        admin.setAdminName("Load admin");
+        admin.setAdminUserId("load-admin");
+        admin.setAdminPassword(passwordHash);
+        adminRepo.save(admin);
+
+        feedbackStatsService.rebuild();
+        // Rows were written straight through the repositories, so nothing has invalidated the catalog
+        catalogCache.invalidateAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        feedbackStatsRepo.deleteAllInBatch();
+        registrationRepo.deleteAllInBatch();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAllInBatch();
+        adminRepo.deleteAllInBatch();
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        adminToken = token(send(post("/admin/login", null,
+                Map.of("adminUserId", "load-admin", "adminPassword", PASSWORD))));
+        assertThat(adminToken).isNotNull();
+
+        run(WARM_UP, new Results());
+        Results results = new Results();
+        run(MEASUREMENT, results);
+
+        System.out.printf("%n%d clients, %ds, %d workshops, %d attendees, %d registrations each, seed %d%n",
+                CLIENTS, MEASUREMENT.toSeconds(), WORKSHOPS, ATTENDEES, REGISTRATIONS_PER_ATTENDEE, SEED);
+        System.out.printf("  %-31s %9s %9s %10s %10s %9s %9s%n", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "rejected", "errors");
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Map.Entry<String, Stats> entry : results.byEndpoint.entrySet()) {
+            report.put(entry.getKey(), entry.getValue().print(entry.getKey()));
+        }
+        writeReport(report);
+
+        for (Stats stats : results.byEndpoint.values()) {
+            assertThat(stats.latencies).isNotEmpty();
+            assertThat(stats.errors.get()).isZero();
+        }
+    }
+
+    private void run(Duration duration, Results results) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger nextUser = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            SplittableRandom random = new SplittableRandom(SEED + c);
+            clients.submit(() -> {
+                while (running.get()) {
+                    VirtualUser user = users.get(nextUser.getAndIncrement() % users.size());
+                    synchronized (user) {
+                        session(user, random, results);
+                    }
+                }
+                return null;
+            });
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(60, TimeUnit.SECONDS);
+    }
+
+    // One visit of an attendee: sign in when needed, then a handful of weighted actions
+    private void session(VirtualUser user, SplittableRandom random, Results results) throws Exception {
+        if (user.token == null || random.nextInt(10) == 0) {
+            HttpResponse<String> response = timed(results, "POST /attendees/login", post("/attendees/login", null,
+                    Map.of("attendeeEmail", user.email, "attendeePassword", PASSWORD)));
+            user.token = response != null && response.statusCode() == 200 ? token(response) : null;
+            if (user.token == null) {
+                return;
+            }
+        }
+        for (int action = 0; action < 5; action++) {
+            int roll = random.nextInt(100);
+            if (roll < 45) {
+                browse(user, random, results);
+            } else if (roll < 60) {
+                timed(results, "GET /workshop/dashboard", get("/workshop/dashboard/" + user.attendeeId, user.token));
+            } else if (roll < 75) {
+                Long workshopId = upcomingWorkshopIds.get(random.nextInt(upcomingWorkshopIds.size()));
+                HttpResponse<String> response = timed(results, "POST /workshop/register",
+                        post("/workshop/register", user.token, registration(user, workshopId)));
+                if (response != null && response.statusCode() == 200) {
+                    user.registered.add(workshopId);
+                }
+            } else if (roll < 88) {
+                if (user.registered.isEmpty()) {
+                    continue;
+                }
+                Long workshopId = new ArrayList<>(user.registered).get(random.nextInt(user.registered.size()));
+                HttpResponse<String> response = timed(results, "DELETE /workshop/deregister",
+                        request("/workshop/deregister", user.token).method("DELETE", json(registration(user, workshopId))).build());
+                if (response != null && response.statusCode() == 200) {
+                    user.registered.remove(workshopId);
+                }
+            } else if (roll < 98) {
+                Long workshopId = user.feedbackDue.poll();
+                if (workshopId == null) {
+                    continue;
+                }
+                timed(results, "POST /workshop/submit-feedback", post("/workshop/submit-feedback", user.token,
+                        Map.of("attendeeId", user.attendeeId, "workshopId", workshopId,
+                                "rating", random.nextInt(6), "comment", "Load feedback")));
+            } else {
+                timed(results, "GET /workshop/feedback", get("/workshop/feedback?size=20", adminToken));
+            }
+        }
+    }
+
+    // First catalog page, and sometimes the next one through the returned cursor
+    private void browse(VirtualUser user, SplittableRandom random, Results results) throws IOException {
+        String state = random.nextInt(4) == 0 ? "completed" : "upcoming";
+        HttpResponse<String> page = timed(results, "GET /workshop/" + state, get("/workshop/" + state, user.token));
+        if (page != null && page.statusCode() == 200 && random.nextBoolean()) {
+            JsonNode cursor = objectMapper.readTree(page.body()).get("nextCursor");
+            if (cursor != null && !cursor.isNull()) {
+                timed(results, "GET /workshop/" + state, get("/workshop/" + state + "?cursor=" + cursor.asText(), user.token));
+            }
+        }
+    }
+
+    private Map<String, Long> registration(VirtualUser user, Long workshopId) {
+        return Map.of("attendeeId", user.attendeeId, "workshopId", workshopId);
+    }
+
+    private HttpResponse<String> timed(Results results, String endpoint, HttpRequest request) {
+        Stats stats = results.byEndpoint.computeIfAbsent(endpoint, key -> new Stats());
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = send(request);
+        } catch (Exception e) {
+            stats.errors.incrementAndGet();
+            return null;
+        }
+        stats.latencies.add(System.nanoTime() - start);
+        if (response.statusCode() >= 500) {
+            stats.errors.incrementAndGet();
+        } else if (response.statusCode() >= 400) {
+            stats.rejected.incrementAndGet();
+        }
+        return response;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String token(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        return request(path, token).POST(json(body)).build();
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json");
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private void writeReport(Map<String, Object> endpoints) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", CLIENTS);
+        report.put("durationSeconds", MEASUREMENT.toSeconds());
+        report.put("workshops", WORKSHOPS);
+        report.put("attendees", ATTENDEES);
+        report.put("registrationsPerAttendee", REGISTRATIONS_PER_ATTENDEE);
+        report.put("seed", SEED);
+        report.put("endpoints", endpoints);
+        File file = new File("target/load-test-result.json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+        System.out.printf("  results written to %s%n", file.getPath());
+    }
+
+    private record SeededRegistration(int workshopIndex, boolean feedbackDue, boolean cancellable) {
+    }
+
+    // Guarded by its own monitor: a user is driven by one client at a time
+    private static final class VirtualUser {
+        private final Long attendeeId;
+        private final String email;
+        private final List<SeededRegistration> seeded = new ArrayList<>();
+        private final Set<Long> registered = new HashSet<>();
+        private final Deque<Long> feedbackDue = new ArrayDeque<>();
+        private String token;
+
+        private VirtualUser(Long attendeeId, String email) {
+            this.attendeeId = attendeeId;
+            this.email = email;
+        }
+    }
+
+    private static final class Results {
+        private final Map<String, Stats> byEndpoint = Collections.synchronizedMap(new LinkedHashMap<>());
+    }
+
+    private static final class Stats {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        private Map<String, Object> print(String endpoint) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            double throughput = sorted.size() / (double) MEASUREMENT.toSeconds();
+            double p50 = percentile(sorted, 50);
+            double p99 = percentile(sorted, 99);
+            System.out.printf("  %-31s %9d %9.1f %10.1f %10.1f %9d %9d%n",
+                    endpoint, sorted.size(), throughput, p50, p99, rejected.get(), errors.get());
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", sorted.size());
+            summary.put("throughputPerSecond", throughput);
+            summary.put("p50Millis", p50);
+            summary.put("p99Millis", p99);
+            summary.put("rejected", rejected.get());
+            summary.put("errors", errors.get());
+            return summary;
+        }
+
+        private static double percentile(List<Long> sorted, int percentile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.aptr.workshop_backend.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:platform-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.threads.virtual.enabled=false"
+})
+class PlatformThreadLoadBenchmark extends ExecutionModeLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,306 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.dto.WorkshopDto;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.mapper.WorkshopMapper;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.aptr.workshop_backend.service.AttendeeDashboardService;
+import com.aptr.workshop_backend.service.WorkshopService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the registration read paths before and after the attendee and workshop associations became lazy.
+ * The legacy queries are reproduced with explicit fetch joins, which is what the eager associations and
+ * entity graphs loaded. The DataSource is wrapped so every row fetched from the database is counted:
+ * strings by their UTF-8 length, other columns as 8 bytes. Not part of the regular test run;
+ * start it with {@code mvn test -Dtest=RegistrationReadPathBenchmark -Dsurefire.failIfNoSpecifiedTests=false}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-paths;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+})
+class RegistrationReadPathBenchmark {
+
+    private static final int WORKSHOPS = 200;
+    private static final int ATTENDEES = 500;
+    private static final int REGISTRATIONS_PER_ATTENDEE = 40;
+    private static final int WARM_UP = 300;
+    private static final int ITERATIONS = 2_000;
+
+    private static final String LEGACY_REGISTRATIONS =
+            "SELECT r FROM AttendeeWorkshopRegistration r JOIN FETCH r.attendee JOIN FETCH r.workshop w " +
+            "LEFT JOIN FETCH w.workshopTutors WHERE r.attendee.attendeeId = :attendeeId";
+
+    private static final ReadCounter COUNTER = new ReadCounter();
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? COUNTER.wrap(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private WorkshopService workshopService;
+    @Autowired
+    private AttendeeDashboardService attendeeDashboardService;
+    @Autowired
+    private WorkshopMapper workshopMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long attendeeId;
+    private Long completedWorkshopId;
+
+    @BeforeEach
+    void seed() {
+        String description = "Long form description of the session. ".repeat(38);
+        String instructions = "Bring a laptop with the toolchain installed. ".repeat(22);
+        List<Workshop> workshops = new ArrayList<>();
+        for (int i = 0; i < WORKSHOPS; i++) {
+            boolean completed = i % 2 == 0;
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopTitle("Read path workshop " + i);
+            workshop.setWorkshopTopic("Topic " + i % 10);
+            workshop.setWorkshopObjective("Objective of workshop " + i);
+            workshop.setWorkshopDescription(description);
+            workshop.setWorkshopInstructions(instructions);
+            workshop.setWorkshopTutors(List.of("Tutor A" + i, "Tutor B" + i));
+            workshop.setCreatedDate(LocalDate.now().minusDays(60));
+            workshop.setStartDate(completed ? LocalDate.now().minusDays(10) : LocalDate.now().plusDays(i + 1));
+            workshop.setEndDate(completed ? LocalDate.now().minusDays(9) : LocalDate.now().plusDays(i + 2));
+            workshop.setWorkshopState(completed ? WorkshopState.COMPLETED : WorkshopState.UPCOMING);
+            workshops.add(workshop);
+        }
+        workshops = workshopRepo.saveAll(workshops);
+
+        List<Attendee> attendees = new ArrayList<>();
+        for (int i = 0; i < ATTENDEES; i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName("Read path attendee " + i);
+            attendee.setAttendeeEmail("read.path" + i + "@example.com");
+            attendee.setAttendeePhoneNumber(String.valueOf(8100000000L + i));
+            // Same length as a BCrypt hash
+            attendee.setAttendeePassword("$2a$10$" + "x".repeat(53));
+            attendees.add(attendee);
+        }
+        attendees = attendeeRepo.saveAll(attendees);
+
+        List<AttendeeWorkshopRegistration> registrations = new ArrayList<>();
+        for (int a = 0; a < ATTENDEES; a++) {
+            for (int r = 0; r < REGISTRATIONS_PER_ATTENDEE; r++) {
+                Workshop workshop = workshops.get((a + r * 5) % WORKSHOPS);
+                boolean completed = workshop.getWorkshopState() == WorkshopState.COMPLETED;
+                AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+                registration.setAttendee(attendees.get(a));
+                registration.setWorkshop(workshop);
+                registration.setRegistrationTime(new Date());
+                registration.setAttended(completed && r % 2 == 0);
+                if (completed && r % 4 == 0) {
+                    registration.setFeedbackGiven(true);
+                    registration.setRating(4);
+                    registration.setComment("Feedback " + r);
+                }
+                registrations.add(registration);
+            }
+        }
+        registrationRepo.saveAll(registrations);
+
+        attendeeId = attendees.get(0).getAttendeeId();
+        completedWorkshopId = workshops.get(0).getWorkshopId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        registrationRepo.deleteAllInBatch();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAllInBatch();
+    }
+
+    @Test
+    void registrationReadPaths() {
+        List<Result> results = List.of(
+                compare("GET /workshop/registered/{id}",
+                        () -> legacyWorkshops(""),
+                        () -> workshopService.getRegisteredWorkshopsByAttendee(attendeeId)),
+                compare("GET /workshop/attended/{id}",
+                        () -> legacyWorkshops(" AND r.attended = true"),
+                        () -> workshopService.getAttendedWorkshopsByAttendee(attendeeId)),
+                compare("GET /workshop/pending-feedbacks/{id}",
+                        () -> legacyWorkshops(" AND w.workshopState = com.aptr.workshop_backend.enums.WorkshopState.COMPLETED " +
+                                "AND (r.feedbackGiven IS NULL OR r.feedbackGiven = false)"),
+                        () -> workshopService.getPendingFeedbacks(attendeeId)),
+                compare("registration lookup (feedback, deregister)",
+                        () -> entityManager.createQuery("SELECT r FROM AttendeeWorkshopRegistration r JOIN FETCH r.attendee " +
+                                        "JOIN FETCH r.workshop w WHERE r.attendee.attendeeId = :attendeeId " +
+                                        "AND w.workshopId = :workshopId", AttendeeWorkshopRegistration.class)
+                                .setParameter("attendeeId", attendeeId)
+                                .setParameter("workshopId", completedWorkshopId)
+                                .getResultList(),
+                        () -> registrationRepo.findRegistrationStatus(attendeeId, completedWorkshopId)),
+                compare("home screen (three lists vs dashboard)",
+                        () -> List.of(legacyWorkshops(""), legacyWorkshops(" AND r.attended = true"),
+                                legacyWorkshops(" AND w.workshopState = com.aptr.workshop_backend.enums.WorkshopState.COMPLETED " +
+                                        "AND (r.feedbackGiven IS NULL OR r.feedbackGiven = false)")),
+                        () -> attendeeDashboardService.compactDashboard(attendeeId))
+        );
+
+        System.out.printf("%n%-44s %14s %12s %9s %12s %10s%n",
+                "read path", "legacy bytes", "new bytes", "saved", "legacy us", "new us");
+        for (Result result : results) {
+            System.out.printf("%-44s %14d %12d %8.1f%% %12.1f %10.1f%n", result.path(),
+                    result.legacy().bytes(), result.current().bytes(),
+                    100.0 * (result.legacy().bytes() - result.current().bytes()) / result.legacy().bytes(),
+                    result.legacy().micros(), result.current().micros());
+            assertThat(result.current().bytes()).as(result.path()).isLessThan(result.legacy().bytes());
+        }
+    }
+
+    private List<WorkshopDto> legacyWorkshops(String condition) {
+        return entityManager.createQuery(LEGACY_REGISTRATIONS + condition, AttendeeWorkshopRegistration.class)
+                .setParameter("attendeeId", attendeeId)
+                .getResultList().stream()
+                .map(registration -> workshopMapper.workshopToWorkshopDto(registration.getWorkshop()))
+                .toList();
+    }
+
+    private Result compare(String path, Supplier<?> legacy, Supplier<?> current) {
+        return new Result(path, measure(legacy), measure(current));
+    }
+
+    // Every call runs in its own read-only transaction, so nothing is served from the persistence context
+    private Measurement measure(Supplier<?> readPath) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        COUNTER.reset();
+        transaction.execute(status -> readPath.get());
+        long bytes = COUNTER.bytes.get();
+
+        for (int i = 0; i < WARM_UP; i++) {
+            transaction.execute(status -> readPath.get());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            transaction.execute(status -> readPath.get());
+        }
+        return new Measurement(bytes, (System.nanoTime() - start) / 1_000.0 / ITERATIONS);
+    }
+
+    private record Measurement(long bytes, double micros) {
+    }
+
+    private record Result(String path, Measurement legacy, Measurement current) {
+    }
+
+    /**
+     * JDBC proxies that pass every call through and add up the size of every row a result set returns, whether
+     * or not Hibernate reads all of its columns.
+     */
+    private static final class ReadCounter {
+        private final AtomicLong bytes = new AtomicLong();
+
+        void reset() {
+            bytes.set(0);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T wrap(T target, Class<T> type) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Connection connection && method.getReturnType() == Connection.class) {
+                    return wrap(connection, Connection.class);
+                }
+                if (result instanceof Statement statement && type == Connection.class) {
+                    return statement instanceof CallableStatement callable ? wrap(callable, CallableStatement.class)
+                            : statement instanceof PreparedStatement prepared ? wrap(prepared, PreparedStatement.class)
+                            : wrap(statement, Statement.class);
+                }
+                if (result instanceof ResultSet resultSet && method.getReturnType() == ResultSet.class) {
+                    return wrap(resultSet, ResultSet.class);
+                }
+                if (target instanceof ResultSet resultSet && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                    bytes.addAndGet(rowSize(resultSet));
+                }
+                return result;
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private static long rowSize(ResultSet resultSet) throws SQLException {
+            long size = 0;
+            int columns = resultSet.getMetaData().getColumnCount();
+            for (int column = 1; column <= columns; column++) {
+                size += sizeOf(resultSet.getObject(column));
+            }
+            return size;
+        }
+
+        private static long sizeOf(Object value) {
+            if (value == null) {
+                return 0;
+            }
+            if (value instanceof String text) {
+                return text.getBytes(StandardCharsets.UTF_8).length;
+            }
+            if (value instanceof byte[] data) {
+                return data.length;
+            }
+            return 8;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.service.WorkshopStateScheduler;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic workshops shaped like production rows: two tutors, a description close to the 1500 character
+ * column limit and dates spread a year either side of {@link #TODAY}.
+ */
+final class SyntheticWorkshops {
+    static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private static final int DATE_RANGE_DAYS = 365;
+    private static final String DESCRIPTION = "Hands-on session covering the fundamentals and common pitfalls. ".repeat(22);
+    private static final String INSTRUCTIONS = "Bring a laptop with the toolchain installed beforehand. ".repeat(16);
+
+    private SyntheticWorkshops() {
+    }
+
+    // Dates come from a shared pool, so a million workshops do not carry two million LocalDate instances
+    static List<Workshop> generate(int count, long seed) {
+        LocalDate[] dates = new LocalDate[4 * DATE_RANGE_DAYS];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = TODAY.plusDays(i - 2L * DATE_RANGE_DAYS);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Workshop> workshops = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int start = DATE_RANGE_DAYS + random.nextInt(2 * DATE_RANGE_DAYS);
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopId((long) i + 1);
+            workshop.setCreatedDate(dates[start - DATE_RANGE_DAYS]);
+            workshop.setWorkshopTitle("Workshop " + i);
+            workshop.setWorkshopTopic("Topic " + i % 50);
+            workshop.setWorkshopTutors(List.of("Tutor " + i % 400, "Tutor " + (i + 7) % 400));
+            workshop.setWorkshopObjective("Objective of workshop " + i);
+            workshop.setWorkshopDescription(DESCRIPTION);
+            workshop.setWorkshopInstructions(INSTRUCTIONS);
+            workshop.setStartDate(dates[start]);
+            workshop.setEndDate(dates[start + random.nextInt(5)]);
+            workshop.setSeatCapacity(random.nextInt(10) == 0 ? null : 50);
+            workshop.setSeatsBooked(random.nextInt(50));
+            workshop.setWorkshopDeleted(random.nextInt(100) == 0);
+            // Roughly one in ten stored states is stale, as after a boundary passes
+            WorkshopState state = WorkshopStateScheduler.stateOn(workshop.getStartDate(), workshop.getEndDate(), TODAY);
+            workshop.setWorkshopState(random.nextInt(10) == 0 ? WorkshopState.values()[random.nextInt(3)] : state);
+            workshops.add(workshop);
+        }
+        return workshops;
+    }
+}
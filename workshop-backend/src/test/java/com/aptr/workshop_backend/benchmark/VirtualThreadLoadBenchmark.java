@@ -0,0 +1,18 @@
+package com.aptr.workshop_backend.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtual-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.threads.virtual.enabled=true"
+})
+class VirtualThreadLoadBenchmark extends ExecutionModeLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
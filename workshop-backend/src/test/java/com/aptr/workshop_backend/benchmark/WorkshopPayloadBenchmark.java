@@ -0,0 +1,90 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.dto.WorkshopDto;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.mapper.WorkshopMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning workshop rows into a response body, per list of {@code size} workshops.
+ * <ul>
+ *     <li>{@code mapToDtos}: WorkshopMapper.workshopToWorkshopDto over the list, as every listing does</li>
+ *     <li>{@code serializeEntities}: Jackson writing the Workshop entities as they would be if returned directly</li>
+ *     <li>{@code serializeDtos}: Jackson writing the already mapped WorkshopDtos</li>
+ *     <li>{@code mapAndSerializeDtos}: both steps together, what a listing response actually pays</li>
+ * </ul>
+ * The ObjectMapper comes from Spring's builder, so modules and date handling match the application's.
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath;
+ * results are written to {@code target/jmh-workshop-payload.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class WorkshopPayloadBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    private int size;
+
+    private final WorkshopMapper workshopMapper = Mappers.getMapper(WorkshopMapper.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Workshop> workshops;
+    private List<WorkshopDto> dtos;
+
+    @Setup
+    public void setUp() {
+        workshops = SyntheticWorkshops.generate(size, 7);
+        dtos = mapToDtos();
+    }
+
+    @Benchmark
+    public List<WorkshopDto> mapToDtos() {
+        return workshops.stream().map(workshopMapper::workshopToWorkshopDto).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(workshops);
+    }
+
+    @Benchmark
+    public byte[] serializeDtos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeDtos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapToDtos());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WorkshopPayloadBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-workshop-payload.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.dto.WorkshopSearchResultDto;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.service.WorkshopSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the workshop search index holding 100k workshops whose descriptions are about
+ * 1500 characters drawn from a skewed 5000-word vocabulary.
+ * <ul>
+ *     <li>{@code commonTerm}: a word found in a large share of descriptions, the worst case for a single token</li>
+ *     <li>{@code twoTermsWithPrefix}: a rare title word plus a typed-ahead prefix that expands to many terms</li>
+ *     <li>{@code filteredByStateAndDates}: a common word restricted to upcoming workshops in a date window</li>
+ * </ul>
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath;
+ * results are written to {@code target/jmh-workshop-search.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class WorkshopSearchBenchmark {
+
+    private static final int WORKSHOPS = 100_000;
+    private static final int VOCABULARY = 5_000;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private WorkshopSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new WorkshopSearchIndex();
+        for (long id = 1; id <= WORKSHOPS; id++) {
+            StringBuilder description = new StringBuilder();
+            while (description.length() < 1500) {
+                description.append(word(skewed(random))).append(' ');
+            }
+            LocalDate start = TODAY.plusDays(random.nextInt(-365, 365));
+            index.put(new WorkshopSearchIndex.Document(id,
+                    word(random.nextInt(VOCABULARY)) + " " + word(random.nextInt(VOCABULARY)) + " workshop",
+                    word(random.nextInt(200)), word(skewed(random)) + " " + word(skewed(random)),
+                    description.toString(), List.of("tutor" + random.nextInt(2000)), start, start.plusDays(2)));
+        }
+    }
+
+    @Benchmark
+    public WorkshopSearchResultDto commonTerm() {
+        return index.search(word(0), null, null, null, TODAY, 20);
+    }
+
+    @Benchmark
+    public WorkshopSearchResultDto twoTermsWithPrefix() {
+        return index.search(word(4321) + " wa", null, null, null, TODAY, 20);
+    }
+
+    @Benchmark
+    public WorkshopSearchResultDto filteredByStateAndDates() {
+        return index.search(word(3), WorkshopState.UPCOMING, TODAY.plusDays(30), TODAY.plusDays(90), TODAY, 20);
+    }
+
+    // Rank r is drawn with probability roughly proportional to 1 / r, like word frequencies in prose
+    private static int skewed(SplittableRandom random) {
+        return (int) Math.min(VOCABULARY - 1, Math.floor(Math.exp(random.nextDouble() * Math.log(VOCABULARY))) - 1);
+    }
+
+    // Deterministic pronounceable word for a vocabulary rank
+    private static String word(int rank) {
+        String syllables = "ba be bi bo bu da de di do du ka ke ki ko ku la le li lo lu ma me mi mo mu na ne ni no nu ra re ri ro ru sa se si so su ta te ti to tu wa we wi wo wu";
+        String[] parts = syllables.split(" ");
+        StringBuilder word = new StringBuilder();
+        int value = rank + parts.length;
+        while (value > 0) {
+            word.append(parts[value % parts.length]);
+            value /= parts.length;
+        }
+        return word.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WorkshopSearchBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-workshop-search.json")
+                .build()).run();
+    }
+}
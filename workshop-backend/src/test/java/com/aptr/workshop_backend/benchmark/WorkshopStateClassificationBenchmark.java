@@ -0,0 +1,94 @@
+package com.aptr.workshop_backend.benchmark;
+
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.service.WorkshopStateScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifying one million workshops by date, the work behind a full state reconciliation.
+ * <ul>
+ *     <li>{@code classifyWithClockPerCall}: WorkshopService.determineWorkshopState, which reads the clock on every call</li>
+ *     <li>{@code classify}: WorkshopStateScheduler.stateOn with the day read once</li>
+ *     <li>{@code findStaleStates}: the WorkshopStateUpdater transition check, skipping deleted and undated
+ *     workshops and counting those whose stored state is out of date</li>
+ * </ul>
+ * Run with {@code mvn test-compile} followed by this class's main method on the test classpath;
+ * results are written to {@code target/jmh-workshop-state-classification.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class WorkshopStateClassificationBenchmark {
+
+    private static final int WORKSHOPS = 1_000_000;
+
+    private List<Workshop> workshops;
+
+    @Setup
+    public void setUp() {
+        workshops = SyntheticWorkshops.generate(WORKSHOPS, 42);
+    }
+
+    @Benchmark
+    public int[] classifyWithClockPerCall() {
+        int[] counts = new int[WorkshopState.values().length];
+        for (Workshop workshop : workshops) {
+            counts[WorkshopStateScheduler.stateOn(workshop.getStartDate(), workshop.getEndDate(), LocalDate.now()).ordinal()]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[] classify() {
+        LocalDate today = LocalDate.now();
+        int[] counts = new int[WorkshopState.values().length];
+        for (Workshop workshop : workshops) {
+            counts[WorkshopStateScheduler.stateOn(workshop.getStartDate(), workshop.getEndDate(), today).ordinal()]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int findStaleStates() {
+        LocalDate today = SyntheticWorkshops.TODAY;
+        int stale = 0;
+        for (Workshop workshop : workshops) {
+            if (workshop.isWorkshopDeleted() || workshop.getStartDate() == null || workshop.getEndDate() == null) {
+                continue;
+            }
+            if (WorkshopStateScheduler.stateOn(workshop.getStartDate(), workshop.getEndDate(), today) != workshop.getWorkshopState()) {
+                stale++;
+            }
+        }
+        return stale;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WorkshopStateClassificationBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-workshop-state-classification.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.aptr.workshop_backend.config.jwt;
+
+import com.aptr.workshop_backend.enums.Role;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtVerifierTests {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final JwtVerifier jwtVerifier = new JwtVerifier(jwtUtil, new SimpleMeterRegistry(), 100);
+
+    @Test
+    void verifiesTokenOnceAndServesRepeatsFromCache() {
+        String token = jwtUtil.generateAccessToken("attendee@example.com", Role.ATTENDEE, 7L, 2);
+
+        JwtPrincipal principal = jwtVerifier.verify(token);
+
+        assertThat(principal.username()).isEqualTo("attendee@example.com");
+        assertThat(principal.role()).isEqualTo(Role.ATTENDEE);
+        assertThat(principal.userId()).isEqualTo(7L);
+        assertThat(principal.tokenVersion()).isEqualTo(2);
+        assertThat(principal.expiresAt()).isAfter(Instant.now());
+        assertThat(jwtVerifier.verify(token)).isSameAs(principal);
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        String token = jwtUtil.generateAccessToken("admin", Role.ADMIN, 1L, 0);
+        jwtVerifier.verify(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Jwts.builder()
+                .setSubject("admin")
+                .claim("role", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .compact()
+                .split("\\.")[1];
+        String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtVerifier.verify(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKey() {
+        String foreign = Jwts.builder()
+                .setSubject("admin")
+                .claim("role", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256))
+                .compact();
+
+        assertThatThrownBy(() -> jwtVerifier.verify(foreign)).isInstanceOf(JwtException.class);
+    }
+}
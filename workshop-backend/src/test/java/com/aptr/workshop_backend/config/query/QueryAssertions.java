@@ -0,0 +1,51 @@
+package com.aptr.workshop_backend.config.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions on the statements an action sends to the database, e.g.
+ * {@code assertStatementCount(1, () -> mockMvc.perform(get(url)))}. MockMvc serves requests on the
+ * calling thread, so the capture sees everything the request runs, security filters included.
+ */
+public final class QueryAssertions {
+
+    private QueryAssertions() {
+    }
+
+    public static QueryCapture captureQueries(Action action) {
+        try (QueryCapture capture = QueryCapture.start()) {
+            action.run();
+            return capture;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void assertStatementCount(int expected, Action action) {
+        QueryCapture capture = captureQueries(action);
+        assertThat(capture.statementCount())
+                .as("statements sent: %s", capture.executions())
+                .isEqualTo(expected);
+    }
+
+    public static void assertMaxStatementCount(int max, Action action) {
+        QueryCapture capture = captureQueries(action);
+        assertThat(capture.statementCount())
+                .as("statements sent: %s", capture.executions())
+                .isLessThanOrEqualTo(max);
+    }
+
+    // Fails when any statement ran threshold times or more, the shape of an N+1 access pattern
+    public static void assertNoRepeatedStatements(int threshold, Action action) {
+        assertThat(captureQueries(action).repeatedStatements(threshold))
+                .as("statements repeated %d or more times", threshold)
+                .isEmpty();
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,92 @@
+package com.aptr.workshop_backend.config.query;
+
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.aptr.workshop_backend.config.query.QueryAssertions.assertNoRepeatedStatements;
+import static com.aptr.workshop_backend.config.query.QueryAssertions.assertStatementCount;
+import static com.aptr.workshop_backend.config.query.QueryAssertions.captureQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Every request with a statement is over a budget of zero, so each one is reported
+@SpringBootTest(properties = "workshop.query-monitor.max-statements=0")
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+@ExtendWith(OutputCaptureExtension.class)
+class QueryBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < 6; i++) {
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopTitle("Budget workshop " + i);
+            workshop.setStartDate(LocalDate.of(2030, 1, 1));
+            workshop.setEndDate(LocalDate.of(2030, 1, 2));
+            workshop.setWorkshopState(WorkshopState.UPCOMING);
+            ids.add(workshopRepo.save(workshop).getWorkshopId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workshopRepo.deleteAll();
+        ids.clear();
+    }
+
+    @Test
+    void repeatedStatementsAreReportedAsNPlusOne() {
+        QueryCapture capture = captureQueries(() -> ids.forEach(workshopRepo::findById));
+
+        assertThat(capture.statementCount()).isEqualTo(6);
+        assertThat(capture.repeatedStatements(5)).hasSize(1).containsValue(6);
+        assertThat(capture.dbTime()).isPositive();
+        assertThatThrownBy(() -> assertNoRepeatedStatements(5, () -> ids.forEach(workshopRepo::findById)))
+                .isInstanceOf(AssertionError.class);
+        assertNoRepeatedStatements(2, () -> workshopRepo.findAllById(ids));
+    }
+
+    @Test
+    void requestsOverBudgetAreLoggedPerEndpoint(CapturedOutput output) throws Exception {
+        // A test capture nests inside the filter's own, so both see the request's single statement
+        assertStatementCount(1, () -> mockMvc.perform(get("/workshop/registered/" + Long.MAX_VALUE))
+                .andExpect(status().isOk()));
+
+        assertThat(output).contains("Query budget exceeded endpoint=WorkshopController.attendeeRegisteredWorkshops",
+                "statements=1", "status=200");
+        DistributionSummary statements = meterRegistry.find("workshop.request.statements")
+                .tag("endpoint", "WorkshopController.attendeeRegisteredWorkshops")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.max()).isEqualTo(1);
+    }
+}
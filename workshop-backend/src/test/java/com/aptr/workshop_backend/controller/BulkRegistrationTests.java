@@ -0,0 +1,149 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.config.query.QueryCapture;
+import com.aptr.workshop_backend.dto.WorkshopRegistrationRequestDto;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.OutboxEventRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.aptr.workshop_backend.service.WorkshopService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.aptr.workshop_backend.config.query.QueryAssertions.captureQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class BulkRegistrationTests {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private WorkshopService workshopService;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private OutboxEventRepo outboxEventRepo;
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepo.deleteAllInBatch();
+        registrationRepo.deleteAllInBatch();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAllInBatch();
+    }
+
+    @Test
+    void everyRowGetsItsOwnOutcome() throws Exception {
+        Workshop upcoming = saveWorkshop("Two seats", LocalDate.now().plusDays(1), WorkshopState.UPCOMING, 2);
+        Workshop completed = saveWorkshop("Completed", LocalDate.now().minusDays(5), WorkshopState.COMPLETED, null);
+        List<Long> attendees = saveAttendees(3);
+        workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(attendees.get(0), upcoming.getWorkshopId()));
+
+        JsonNode results = bulkRegister(List.of(
+                new WorkshopRegistrationRequestDto(attendees.get(1), upcoming.getWorkshopId()),
+                new WorkshopRegistrationRequestDto(attendees.get(1), upcoming.getWorkshopId()),
+                new WorkshopRegistrationRequestDto(attendees.get(0), upcoming.getWorkshopId()),
+                new WorkshopRegistrationRequestDto(attendees.get(2), upcoming.getWorkshopId()),
+                new WorkshopRegistrationRequestDto(Long.MAX_VALUE, upcoming.getWorkshopId()),
+                new WorkshopRegistrationRequestDto(attendees.get(2), Long.MAX_VALUE),
+                new WorkshopRegistrationRequestDto(attendees.get(2), completed.getWorkshopId())));
+
+        assertThat(results.findValuesAsText("outcome")).containsExactly(
+                "REGISTERED", "DUPLICATE_IN_REQUEST", "ALREADY_REGISTERED", "WORKSHOP_FULL",
+                "ATTENDEE_NOT_FOUND", "WORKSHOP_NOT_FOUND", "WORKSHOP_COMPLETED");
+        assertThat(workshopRepo.findById(upcoming.getWorkshopId()).orElseThrow().getSeatsBooked()).isEqualTo(2);
+        assertThat(registrationRepo.findAttendeesByWorkshopId(upcoming.getWorkshopId())).hasSize(2);
+        assertThat(registrationRepo.findAttendeesByWorkshopId(completed.getWorkshopId())).isEmpty();
+    }
+
+    @Test
+    void registrationsAreInsertedInJdbcBatches() throws Exception {
+        int rows = 2 * BATCH_SIZE + 20;
+        Workshop workshop = saveWorkshop("Open", LocalDate.now().plusDays(1), WorkshopState.UPCOMING, null);
+        List<WorkshopRegistrationRequestDto> requests = new ArrayList<>();
+        for (Long attendeeId : saveAttendees(rows)) {
+            requests.add(new WorkshopRegistrationRequestDto(attendeeId, workshop.getWorkshopId()));
+        }
+
+        List<JsonNode> results = new ArrayList<>();
+        QueryCapture capture = captureQueries(() -> results.add(bulkRegister(requests)));
+
+        assertThat(results.get(0).findValuesAsText("outcome")).hasSize(rows).containsOnly("REGISTERED");
+        assertThat(registrationRepo.findAttendeesByWorkshopId(workshop.getWorkshopId())).hasSize(rows);
+        // Attendee check, workshop lock, existing pairs, one seat update, one outbox insert, one round trip
+        // per batch of registration inserts and at most one sequence call per pooled block of ids; how many
+        // blocks are fetched depends on what is left of the block earlier tests drew from
+        assertThat(executions(capture, "insert into attendee_workshop_registrations ")).isEqualTo(3);
+        assertThat(executions(capture, "attendee_workshop_registrations_seq")).isBetween(1, 4);
+        assertThat(capture.statementCount()).as("statements sent: %s", capture.executions())
+                .isEqualTo(8 + executions(capture, "attendee_workshop_registrations_seq"));
+    }
+
+    private static int executions(QueryCapture capture, String sqlFragment) {
+        return capture.executions().entrySet().stream()
+                .filter(entry -> entry.getKey().contains(sqlFragment))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+    }
+
+    private JsonNode bulkRegister(List<WorkshopRegistrationRequestDto> requests) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post("/workshop/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private Workshop saveWorkshop(String title, LocalDate startDate, WorkshopState state, Integer seatCapacity) {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle(title);
+        workshop.setCreatedDate(LocalDate.now().minusDays(10));
+        workshop.setStartDate(startDate);
+        workshop.setEndDate(startDate.plusDays(1));
+        workshop.setWorkshopState(state);
+        workshop.setSeatCapacity(seatCapacity);
+        return workshopRepo.save(workshop);
+    }
+
+    private List<Long> saveAttendees(int count) {
+        List<Attendee> attendees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName("Bulk Attendee " + i);
+            attendee.setAttendeeEmail("bulk" + i + "@example.com");
+            attendee.setAttendeePhoneNumber(String.valueOf(8100000000L + i));
+            attendee.setAttendeePassword("password");
+            attendees.add(attendee);
+        }
+        return attendeeRepo.saveAll(attendees).stream().map(Attendee::getAttendeeId).toList();
+    }
+}
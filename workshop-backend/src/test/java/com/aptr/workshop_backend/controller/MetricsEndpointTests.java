@@ -0,0 +1,92 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    private Attendee attendee;
+
+    @BeforeEach
+    void seed() {
+        attendee = new Attendee();
+        attendee.setAttendeeName("Metrics Attendee");
+        attendee.setAttendeeEmail("metrics@example.com");
+        attendee.setAttendeePhoneNumber("9999922222");
+        attendee.setAttendeePassword(passwordEncoder.encode("password"));
+        attendee = attendeeRepo.save(attendee);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void requestPathIsScrapeableByAdmins() throws Exception {
+        String login = mockMvc.perform(post("/attendees/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"attendeeEmail\":\"metrics@example.com\",\"attendeePassword\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(login).get("accessToken").asText();
+        mockMvc.perform(get("/workshop/registered/" + attendee.getAttendeeId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_count{")
+                .contains("uri=\"/workshop/registered/{attendeeId}\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("repository=\"AttendeeWorkshopRegistrationRepo\"")
+                .contains("hikaricp_connections_pending{")
+                .contains("workshop_jwt_verification_seconds_count{")
+                .contains("workshop_password_hashing_seconds_count{")
+                .contains("executor_queued_tasks{")
+                .contains("cache_gets_total{")
+                .contains("workshop_state_update_last_duration_seconds ")
+                .contains("workshop_state_workshops{");
+    }
+}
@@ -0,0 +1,166 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class RegistrationExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+
+    private Long workshopId;
+
+    @BeforeEach
+    void seed() {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle("Export workshop");
+        workshop.setStartDate(LocalDate.now().minusDays(3));
+        workshop.setEndDate(LocalDate.now().minusDays(1));
+        workshop.setWorkshopState(WorkshopState.COMPLETED);
+        workshop = workshopRepo.save(workshop);
+        workshopId = workshop.getWorkshopId();
+
+        List<String> names = List.of("Plain Name", "Doe, \"JJ\" Jane", "Third Attendee");
+        for (int i = 0; i < names.size(); i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName(names.get(i));
+            attendee.setAttendeeEmail("export" + i + "@example.com");
+            attendee.setAttendeePhoneNumber(String.valueOf(9100000000L + i));
+            attendee.setAttendeePassword("password");
+
+            AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+            registration.setAttendee(attendeeRepo.save(attendee));
+            registration.setWorkshop(workshop);
+            registration.setRegistrationTime(new Date());
+            if (i == 0) {
+                registration.setAttended(true);
+                registration.setFeedbackGiven(true);
+                registration.setRating(5);
+                registration.setComment("Great,\nwould attend again");
+            }
+            registrationRepo.save(registration);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        registrationRepo.deleteAll();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void workshopCohortIsStreamedAsCsvWithoutLoadingEntities() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String csv = mockMvc.perform(get("/workshop/" + workshopId + "/registrations/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"workshop-" + workshopId + "-registrations.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(csv.split("\r\n")).containsExactly(
+                "attendeeName,attendeeEmail,attendeePhoneNumber",
+                "Plain Name,export0@example.com,9100000000",
+                "\"Doe, \"\"JJ\"\" Jane\",export1@example.com,9100000001",
+                "Third Attendee,export2@example.com,9100000002");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void cellsThatWouldRunAsFormulasAreWrittenAsText() throws Exception {
+        List<String> names = List.of("=HYPERLINK(\"http://example.com\",\"x\")", "+1+1", "-2", "@SUM(A1:A9)");
+        Workshop workshop = workshopRepo.findById(workshopId).orElseThrow();
+        for (int i = 0; i < names.size(); i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName(names.get(i));
+            attendee.setAttendeeEmail("formula" + i + "@example.com");
+            attendee.setAttendeePhoneNumber(String.valueOf(9200000000L + i));
+            attendee.setAttendeePassword("password");
+
+            AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+            registration.setAttendee(attendeeRepo.save(attendee));
+            registration.setWorkshop(workshop);
+            registration.setRegistrationTime(new Date());
+            registrationRepo.save(registration);
+        }
+
+        String csv = mockMvc.perform(get("/workshop/" + workshopId + "/registrations/export"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(csv.split("\r\n")).contains(
+                "\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",formula0@example.com,9200000000",
+                "'+1+1,formula1@example.com,9200000001",
+                "'-2,formula2@example.com,9200000002",
+                "'@SUM(A1:A9),formula3@example.com,9200000003");
+    }
+
+    @Test
+    void platformExportWritesOneJsonDocumentPerLine() throws Exception {
+        String ndjson = mockMvc.perform(get("/workshop/registrations/export").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("workshopTitle").asText()).isEqualTo("Export workshop");
+        assertThat(first.get("rating").asInt()).isEqualTo(5);
+        assertThat(first.get("comment").asText()).isEqualTo("Great,\nwould attend again");
+        assertThat(objectMapper.readTree(lines[1]).get("feedbackGiven").asBoolean()).isFalse();
+    }
+
+    @Test
+    void unknownWorkshopsAndFormatsAreRejectedBeforeAnythingIsWritten() throws Exception {
+        mockMvc.perform(get("/workshop/" + (workshopId + 1000) + "/registrations/export"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/workshop/registrations/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+}
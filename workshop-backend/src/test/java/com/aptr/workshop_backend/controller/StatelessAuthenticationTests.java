@@ -0,0 +1,79 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.config.jwt.JwtUtil;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.enums.Role;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.aptr.workshop_backend.config.query.QueryAssertions.assertStatementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StatelessAuthenticationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    private Attendee attendee;
+
+    @BeforeEach
+    void seed() {
+        attendee = new Attendee();
+        attendee.setAttendeeName("Stateless Attendee");
+        attendee.setAttendeeEmail("stateless@example.com");
+        attendee.setAttendeePhoneNumber("9999911111");
+        attendee.setAttendeePassword("password");
+        attendee = attendeeRepo.save(attendee);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void authenticatedRequestsIssueNoUserLookups() throws Exception {
+        String url = "/workshop/registered/" + attendee.getAttendeeId();
+        String token = tokenFor(attendee.getTokenVersion());
+
+        mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Only the registrations query itself runs; the token is trusted without loading the attendee
+        assertStatementCount(1, () -> mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void logoutRevokesEveryTokenIssuedBefore() throws Exception {
+        String url = "/workshop/registered/" + attendee.getAttendeeId();
+        String token = tokenFor(attendee.getTokenVersion());
+
+        mockMvc.perform(post("/attendees/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenFor(attendee.getTokenVersion() + 1)))
+                .andExpect(status().isOk());
+    }
+
+    private String tokenFor(int tokenVersion) {
+        return jwtUtil.generateAccessToken(attendee.getAttendeeEmail(), Role.ATTENDEE, attendee.getAttendeeId(), tokenVersion);
+    }
+}
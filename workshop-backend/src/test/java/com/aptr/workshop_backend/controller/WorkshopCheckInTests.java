@@ -0,0 +1,170 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.dto.WorkshopRegistrationRequestDto;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.entity.WorkshopCheckIn;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopCheckInRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.aptr.workshop_backend.service.WorkshopCheckInService;
+import com.aptr.workshop_backend.service.WorkshopService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class WorkshopCheckInTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private WorkshopCheckInRepo checkInRepo;
+    @Autowired
+    private WorkshopCheckInService checkInService;
+    @Autowired
+    private WorkshopService workshopService;
+
+    private final List<Long> attendeeIds = new ArrayList<>();
+    private Long ongoingWorkshopId;
+    private Long completedWorkshopId;
+
+    @BeforeEach
+    void seed() {
+        LocalDate today = LocalDate.now();
+        Workshop ongoing = workshopRepo.save(workshop("Ongoing", today, today.plusDays(1), WorkshopState.ONGOING));
+        Workshop completed = workshopRepo.save(workshop("Completed", today.minusDays(5), today.minusDays(4), WorkshopState.COMPLETED));
+        ongoingWorkshopId = ongoing.getWorkshopId();
+        completedWorkshopId = completed.getWorkshopId();
+
+        // The first three attendees are registered for the ongoing workshop, the fourth is not
+        for (int i = 0; i < 4; i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName("Check-in Attendee " + i);
+            attendee.setAttendeeEmail("checkin" + i + "@example.com");
+            attendee.setAttendeePhoneNumber("98765000" + i + i);
+            attendee.setAttendeePassword("password");
+            attendee = attendeeRepo.save(attendee);
+            attendeeIds.add(attendee.getAttendeeId());
+            if (i < 3) {
+                AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+                registration.setAttendee(attendee);
+                registration.setWorkshop(ongoing);
+                registration.setRegistrationTime(new Date());
+                registrationRepo.save(registration);
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        checkInService.flush();
+        checkInRepo.deleteAllInBatch();
+        registrationRepo.deleteAllInBatch();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAllInBatch();
+        attendeeIds.clear();
+    }
+
+    @Test
+    void scansAreAnsweredFromMemoryAndWrittenInBatches() throws Exception {
+        JsonNode results = checkIn(ongoingWorkshopId, List.of(attendeeIds.get(0), attendeeIds.get(1), attendeeIds.get(0), attendeeIds.get(3)));
+        assertThat(results.findValuesAsText("outcome"))
+                .containsExactly("CHECKED_IN", "CHECKED_IN", "ALREADY_CHECKED_IN", "NOT_REGISTERED");
+
+        mockMvc.perform(get("/workshop/" + ongoingWorkshopId + "/headcount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registered").value(3))
+                .andExpect(jsonPath("$.checkedIn").value(2));
+        assertThat(checkInRepo.count()).as("scans are buffered until the next flush").isZero();
+
+        assertThat(checkInService.flush()).isEqualTo(2);
+        assertThat(checkInService.flush()).isZero();
+        assertThat(checkInRepo.count()).isEqualTo(2);
+        assertThat(registrationRepo.findAttendedWorkshops(attendeeIds.get(0))).hasSize(1);
+        assertThat(registrationRepo.findAttendedWorkshops(attendeeIds.get(2))).isEmpty();
+
+        // Re-scans after the write stay idempotent
+        assertThat(checkIn(ongoingWorkshopId, List.of(attendeeIds.get(1), attendeeIds.get(2))).findValuesAsText("outcome"))
+                .containsExactly("ALREADY_CHECKED_IN", "CHECKED_IN");
+        assertThat(checkInService.flush()).isEqualTo(1);
+        assertThat(checkInRepo.count()).isEqualTo(3);
+    }
+
+    @Test
+    void scansOfAttendeesWhoDeregisterBeforeTheWriteAreDropped() throws Exception {
+        assertThat(checkIn(ongoingWorkshopId, List.of(attendeeIds.get(0), attendeeIds.get(1))).findValuesAsText("outcome"))
+                .containsExactly("CHECKED_IN", "CHECKED_IN");
+        workshopService.deregisterAttendeeFromWorkshop(new WorkshopRegistrationRequestDto(attendeeIds.get(1), ongoingWorkshopId));
+
+        assertThat(checkInService.flush()).isEqualTo(1);
+        assertThat(checkInRepo.findAll()).extracting(WorkshopCheckIn::getAttendeeId).containsExactly(attendeeIds.get(0));
+        mockMvc.perform(get("/workshop/" + ongoingWorkshopId + "/headcount"))
+                .andExpect(jsonPath("$.registered").value(2))
+                .andExpect(jsonPath("$.checkedIn").value(1));
+    }
+
+    @Test
+    void checkInIsOnlyOpenForOngoingWorkshops() throws Exception {
+        perform(completedWorkshopId, List.of(attendeeIds.get(0)), status().isBadRequest());
+        perform(Long.MAX_VALUE, List.of(attendeeIds.get(0)), status().isNotFound());
+        perform(ongoingWorkshopId, List.of(), status().isBadRequest());
+    }
+
+    private JsonNode checkIn(Long workshopId, List<Long> scanned) throws Exception {
+        return objectMapper.readTree(perform(workshopId, scanned, status().isOk()));
+    }
+
+    private String perform(Long workshopId, List<Long> scanned, ResultMatcher expectedStatus) throws Exception {
+        return mockMvc.perform(post("/workshop/" + workshopId + "/check-ins")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckIn(scanned))))
+                .andExpect(expectedStatus)
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static Workshop workshop(String title, LocalDate start, LocalDate end, WorkshopState state) {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle(title);
+        workshop.setStartDate(start);
+        workshop.setEndDate(end);
+        workshop.setWorkshopState(state);
+        return workshop;
+    }
+
+    private record CheckIn(List<Long> attendeeIds) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class WorkshopFilterTests {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        // Workshop i starts on BASE + i * 10 days and runs for two days
+        for (int i = 0; i < 6; i++) {
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopTitle("Filter workshop " + i);
+            workshop.setWorkshopTopic(i % 2 == 0 ? "Java" : "Go");
+            workshop.setWorkshopTutors(i < 3 ? List.of("Ada", "Linus") : List.of("Grace"));
+            workshop.setCreatedDate(BASE.minusDays(30 - i));
+            workshop.setStartDate(BASE.plusDays(i * 10L));
+            workshop.setEndDate(BASE.plusDays(i * 10L + 2));
+            workshop.setWorkshopState(WorkshopState.UPCOMING);
+            workshop.setWorkshopDeleted(i == 5);
+            ids.add(workshopRepo.save(workshop).getWorkshopId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workshopRepo.deleteAll();
+        ids.clear();
+    }
+
+    @Test
+    void criteriaAreCombined() throws Exception {
+        JsonNode page = filter("topic=Java&tutor=Ada&startFrom=" + BASE.plusDays(5) + "&startTo=" + BASE.plusDays(40));
+        assertThat(workshopIds(page)).containsExactly(ids.get(2));
+
+        assertThat(workshopIds(filter("tutor=Grace&state=UPCOMING"))).containsExactly(ids.get(3), ids.get(4));
+        assertThat(workshopIds(filter("endTo=" + BASE.plusDays(12) + "&createdFrom=" + BASE.minusDays(29))))
+                .containsExactly(ids.get(1));
+        assertThat(workshopIds(filter("deleted=true"))).containsExactly(ids.get(5));
+        assertThat(workshopIds(filter("topic=Rust"))).isEmpty();
+    }
+
+    @Test
+    void pagesAreSortedAndCounted() throws Exception {
+        JsonNode first = filter("sort=-startDate&size=2");
+        assertThat(workshopIds(first)).containsExactly(ids.get(4), ids.get(3));
+        assertThat(first.get("totalElements").asLong()).isEqualTo(5);
+        assertThat(first.get("totalPages").asInt()).isEqualTo(3);
+
+        JsonNode last = filter("sort=-startDate&size=2&page=2");
+        assertThat(workshopIds(last)).containsExactly(ids.get(0));
+
+        assertThat(workshopIds(filter("sort=workshopTopic,-startDate")))
+                .containsExactly(ids.get(3), ids.get(1), ids.get(4), ids.get(2), ids.get(0));
+    }
+
+    @Test
+    void invalidRequestsAreRejected() throws Exception {
+        mockMvc.perform(get("/workshop/filter?sort=workshopDescription")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/workshop/filter?startFrom=" + BASE.plusDays(2) + "&startTo=" + BASE))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/workshop/filter?size=0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/workshop/filter?page=-1")).andExpect(status().isBadRequest());
+    }
+
+    private JsonNode filter(String query) throws Exception {
+        String body = mockMvc.perform(get("/workshop/filter?" + query))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private List<Long> workshopIds(JsonNode page) {
+        List<Long> result = new ArrayList<>();
+        page.get("content").forEach(workshop -> result.add(workshop.get("workshopId").asLong()));
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.aptr.workshop_backend.service.WorkshopCatalogCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ATTENDEE")
+class WorkshopPagingTests {
+
+    private static final int PAGE_SIZE = 2;
+    // Three workshops share the second start date, so the first page boundary falls inside that group
+    private static final int[] START_OFFSETS = {0, 1, 1, 1, 2, 3, 4};
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private WorkshopCatalogCache catalogCache;
+
+    private final Map<WorkshopState, List<Workshop>> seeded = new EnumMap<>(WorkshopState.class);
+
+    @BeforeEach
+    void seed() {
+        LocalDate today = LocalDate.now();
+        seed(WorkshopState.UPCOMING, today.plusDays(10));
+        seed(WorkshopState.ONGOING, today.minusDays(4));
+        seed(WorkshopState.COMPLETED, today.minusDays(40));
+
+        // Deleted workshops never show up in a listing
+        Workshop deleted = workshop(WorkshopState.UPCOMING, today.plusDays(10));
+        deleted.setWorkshopDeleted(true);
+        workshopRepo.save(deleted);
+        catalogCache.invalidateAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workshopRepo.deleteAll();
+        seeded.clear();
+        catalogCache.invalidateAll();
+    }
+
+    @Test
+    void walkingTheCursorVisitsEveryWorkshopOnceInStartDateOrder() throws Exception {
+        for (Map.Entry<WorkshopState, List<Workshop>> entry : seeded.entrySet()) {
+            List<Long> expected = entry.getValue().stream()
+                    .sorted(Comparator.comparing(Workshop::getStartDate).thenComparing(Workshop::getWorkshopId))
+                    .map(Workshop::getWorkshopId)
+                    .toList();
+
+            List<Long> visited = new ArrayList<>();
+            List<Integer> pageSizes = new ArrayList<>();
+            String cursor = null;
+            while (true) {
+                MockHttpServletRequestBuilder request = get(listing(entry.getKey())).param("size", String.valueOf(PAGE_SIZE));
+                if (cursor != null) {
+                    request.param("cursor", cursor);
+                }
+                JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString());
+                page.get("content").forEach(workshop -> visited.add(workshop.get("workshopId").asLong()));
+                pageSizes.add(page.get("content").size());
+                if (!page.get("hasNext").asBoolean()) {
+                    assertThat(page.get("nextCursor").isNull()).isTrue();
+                    break;
+                }
+                cursor = page.get("nextCursor").asText();
+            }
+
+            assertThat(visited).as("%s listing", entry.getKey()).containsExactlyElementsOf(expected);
+            assertThat(pageSizes).containsExactly(2, 2, 2, 1);
+        }
+    }
+
+    @Test
+    void workshopsSharingAStartDateAreSplitByIdAtThePageBoundary() throws Exception {
+        List<Workshop> sameDay = seeded.get(WorkshopState.UPCOMING).subList(1, 4);
+        String afterFirstOfGroup = cursor(sameDay.get(0).getStartDate(), sameDay.get(0).getWorkshopId());
+
+        JsonNode page = objectMapper.readTree(mockMvc.perform(get("/workshop/upcoming")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .param("cursor", afterFirstOfGroup))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        assertThat(page.get("content").findValuesAsText("workshopId")).containsExactly(
+                String.valueOf(sameDay.get(1).getWorkshopId()), String.valueOf(sameDay.get(2).getWorkshopId()));
+        assertThat(page.get("nextCursor").asText())
+                .isEqualTo(cursor(sameDay.get(2).getStartDate(), sameDay.get(2).getWorkshopId()));
+    }
+
+    @Test
+    void malformedCursorsAndPageSizesAreRejected() throws Exception {
+        List<String> badCursors = List.of("not a cursor", "%%%",
+                encode("2030-01-01"), encode("2030-13-01|1"), encode("2030-01-01|abc"), encode("2030-01-01|1|2"));
+        for (String cursor : badCursors) {
+            mockMvc.perform(get("/workshop/upcoming").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+        for (String size : List.of("0", "-1", "101")) {
+            mockMvc.perform(get("/workshop/completed").param("size", size))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(get("/workshop/ongoing").param("size", "100"))
+                .andExpect(status().isOk());
+    }
+
+    private void seed(WorkshopState state, LocalDate firstStart) {
+        List<Workshop> workshops = new ArrayList<>();
+        for (int offset : START_OFFSETS) {
+            workshops.add(workshopRepo.save(workshop(state, firstStart.plusDays(offset))));
+        }
+        seeded.put(state, workshops);
+    }
+
+    private static Workshop workshop(WorkshopState state, LocalDate startDate) {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle(state + " workshop starting " + startDate);
+        workshop.setCreatedDate(startDate.minusDays(30));
+        workshop.setStartDate(startDate);
+        workshop.setEndDate(state == WorkshopState.ONGOING ? LocalDate.now().plusDays(1) : startDate.plusDays(1));
+        workshop.setWorkshopState(state);
+        return workshop;
+    }
+
+    private static String listing(WorkshopState state) {
+        return "/workshop/" + state.name().toLowerCase();
+    }
+
+    private static String cursor(LocalDate startDate, Long workshopId) {
+        return encode(startDate + "|" + workshopId);
+    }
+
+    private static String encode(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+}
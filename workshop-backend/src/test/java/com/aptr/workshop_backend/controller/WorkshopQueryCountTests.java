@@ -0,0 +1,242 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopFeedbackStatsRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.aptr.workshop_backend.dto.WorkshopDto;
+import com.aptr.workshop_backend.dto.WorkshopRegistrationRequestDto;
+import com.aptr.workshop_backend.service.WorkshopCatalogCache;
+import com.aptr.workshop_backend.service.WorkshopFeedbackStatsService;
+import com.aptr.workshop_backend.service.WorkshopService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.aptr.workshop_backend.config.query.QueryAssertions.assertStatementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the read endpoints against N+1 regressions by counting the statements sent to the
+ * database while serving a request, security filters included.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ATTENDEE")
+class WorkshopQueryCountTests {
+
+    private static final int WORKSHOPS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private WorkshopFeedbackStatsRepo feedbackStatsRepo;
+    @Autowired
+    private WorkshopFeedbackStatsService feedbackStatsService;
+    @Autowired
+    private WorkshopCatalogCache catalogCache;
+    @Autowired
+    private WorkshopService workshopService;
+
+    private Long attendeeId;
+
+    @BeforeEach
+    void seed() {
+        Attendee attendee = new Attendee();
+        attendee.setAttendeeName("Query Counter");
+        attendee.setAttendeeEmail("query.counter@example.com");
+        attendee.setAttendeePhoneNumber("9999900000");
+        attendee.setAttendeePassword("password");
+        attendee = attendeeRepo.save(attendee);
+        attendeeId = attendee.getAttendeeId();
+
+        List<AttendeeWorkshopRegistration> registrations = new ArrayList<>();
+        for (int i = 0; i < WORKSHOPS; i++) {
+            WorkshopState state = i % 2 == 0 ? WorkshopState.UPCOMING : WorkshopState.COMPLETED;
+            Workshop workshop = new Workshop();
+            workshop.setWorkshopTitle("Workshop " + i);
+            workshop.setWorkshopTutors(List.of("Tutor A" + i, "Tutor B" + i));
+            workshop.setStartDate(state == WorkshopState.UPCOMING ? LocalDate.now().plusDays(i + 1) : LocalDate.now().minusDays(i + 2));
+            workshop.setEndDate(state == WorkshopState.UPCOMING ? LocalDate.now().plusDays(i + 2) : LocalDate.now().minusDays(1));
+            workshop.setWorkshopState(state);
+            workshop = workshopRepo.save(workshop);
+
+            AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+            registration.setAttendee(attendee);
+            registration.setWorkshop(workshop);
+            registration.setRegistrationTime(new Date());
+            registration.setAttended(i % 3 == 0);
+            if (state == WorkshopState.COMPLETED && i % 3 != 0) {
+                registration.setFeedbackGiven(true);
+                registration.setRating(4);
+                registration.setComment("Useful session " + i);
+            }
+            registrations.add(registration);
+        }
+        registrationRepo.saveAll(registrations);
+        feedbackStatsService.rebuild();
+        // Rows were written straight through the repositories, so nothing has invalidated the catalog
+        catalogCache.invalidateAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        feedbackStatsRepo.deleteAll();
+        registrationRepo.deleteAll();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void catalogPageLoadsTutorsInOneBatch() throws Exception {
+        assertStatements(2, "/workshop/upcoming");
+    }
+
+    @Test
+    void catalogPagesStayCachedThroughBookingsAndShowLiveSeatCounts() throws Exception {
+        assertStatements(2, "/workshop/upcoming");
+        assertStatements(0, "/workshop/upcoming");
+
+        Long upcomingWorkshopId = workshopRepo.findAll().stream()
+                .filter(workshop -> workshop.getWorkshopState() == WorkshopState.UPCOMING)
+                .findFirst().orElseThrow().getWorkshopId();
+        Attendee other = new Attendee();
+        other.setAttendeeName("Late Booker");
+        other.setAttendeeEmail("late.booker@example.com");
+        other.setAttendeePhoneNumber("9999900001");
+        other.setAttendeePassword("password");
+        workshopService.registerAttendeeToWorkshop(
+                new WorkshopRegistrationRequestDto(attendeeRepo.save(other).getAttendeeId(), upcomingWorkshopId));
+
+        // Only the booked workshop's seat count is read again; the page itself is still cached
+        assertStatementCount(1, () -> mockMvc.perform(get("/workshop/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.workshopId == " + upcomingWorkshopId + ")].seatsBooked").value(1)));
+        assertStatements(0, "/workshop/upcoming");
+    }
+
+    @Test
+    void registeredWorkshopsLoadTutorsInOneBatch() throws Exception {
+        assertStatements(2, "/workshop/registered/" + attendeeId);
+    }
+
+    @Test
+    void pendingFeedbacksLoadTutorsInOneBatch() throws Exception {
+        assertStatements(2, "/workshop/pending-feedbacks/" + attendeeId);
+    }
+
+    @Test
+    void attendedWorkshopsLoadTutorsInOneBatch() throws Exception {
+        assertStatements(2, "/workshop/attended/" + attendeeId);
+    }
+
+    @Test
+    void compactDashboardIsServedByOneQuery() throws Exception {
+        String url = "/workshop/dashboard/" + attendeeId;
+        assertStatements(1, url, "$.pendingFeedback[0].workshopTitle");
+        assertStatements(2, url + "?full=true");
+
+        mockMvc.perform(get(url))
+                .andExpect(jsonPath("$.registered.length()").value(WORKSHOPS))
+                .andExpect(jsonPath("$.attended.length()").value(4))
+                .andExpect(jsonPath("$.pendingFeedback.length()").value(2))
+                .andExpect(jsonPath("$.upcoming.length()").value(WORKSHOPS / 2))
+                .andExpect(jsonPath("$.registered[0].workshopTutors").doesNotExist())
+                .andExpect(jsonPath("$.registered[0].workshopDescription").doesNotExist());
+    }
+
+    @Test
+    void unchangedRegistrationsAreRevalidatedWithoutQueries() throws Exception {
+        String url = "/workshop/registered/" + attendeeId;
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertStatementCount(0, () -> {
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag));
+            mockMvc.perform(get("/workshop/upcoming").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                    .andExpect(status().isNotModified());
+        });
+
+        Long upcomingWorkshopId = workshopRepo.findAll().stream()
+                .filter(workshop -> workshop.getWorkshopState() == WorkshopState.UPCOMING)
+                .findFirst().orElseThrow().getWorkshopId();
+        workshopService.deregisterAttendeeFromWorkshop(new WorkshopRegistrationRequestDto(attendeeId, upcomingWorkshopId));
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(WORKSHOPS - 1));
+    }
+
+    @Test
+    void anotherAttendeesBookingKeepsTheHistoryTag() throws Exception {
+        String url = "/workshop/registered/" + attendeeId;
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].seatsBooked").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Workshop upcoming = workshopRepo.findAll().stream()
+                .filter(workshop -> workshop.getWorkshopState() == WorkshopState.UPCOMING)
+                .findFirst().orElseThrow();
+        Attendee other = new Attendee();
+        other.setAttendeeName("Other Booker");
+        other.setAttendeeEmail("other.booker@example.com");
+        other.setAttendeePhoneNumber("9999900002");
+        other.setAttendeePassword("password");
+        workshopService.registerAttendeeToWorkshop(
+                new WorkshopRegistrationRequestDto(attendeeRepo.save(other).getAttendeeId(), upcoming.getWorkshopId()));
+
+        assertStatementCount(0, () -> mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified()));
+
+        workshopService.editWorkshop(upcoming.getWorkshopId(),
+                new WorkshopDto(null, "Renamed workshop", null, null, null, null, null, null, null, null, null));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.workshopTitle == 'Renamed workshop')]").exists());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void feedbackReportUsesOneAggregateAndOneDetailQuery() throws Exception {
+        assertStatements(2, "/workshop/feedback", "$[0].feedbacks[0].comment");
+    }
+
+    private void assertStatements(int expected, String url) {
+        assertStatements(expected, url, "$..workshopTutors[0]");
+    }
+
+    private void assertStatements(int expected, String url, String expectedJsonPath) {
+        assertStatementCount(expected, () -> mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(expectedJsonPath).exists()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.aptr.workshop_backend.controller;
+
+import com.aptr.workshop_backend.dto.WorkshopRegistrationRequestDto;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.OutboxEventRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ATTENDEE")
+class WorkshopRegistrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private OutboxEventRepo outboxEventRepo;
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepo.deleteAllInBatch();
+        registrationRepo.deleteAllInBatch();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAllInBatch();
+    }
+
+    @Test
+    void failedRegistrationsAnswerWithTheirOwnStatus() throws Exception {
+        Long workshopId = saveWorkshop(LocalDate.now().plusDays(1), WorkshopState.UPCOMING, 1);
+        Long completedId = saveWorkshop(LocalDate.now().minusDays(5), WorkshopState.COMPLETED, null);
+        Long first = saveAttendee(0);
+        Long second = saveAttendee(1);
+
+        register(first, workshopId).andExpect(status().isOk());
+        register(first, workshopId).andExpect(status().isConflict());
+        register(second, workshopId).andExpect(status().isConflict());
+        register(Long.MAX_VALUE, workshopId).andExpect(status().isNotFound());
+        register(second, Long.MAX_VALUE).andExpect(status().isNotFound());
+        register(second, completedId).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions register(Long attendeeId, Long workshopId) throws Exception {
+        return mockMvc.perform(post("/workshop/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new WorkshopRegistrationRequestDto(attendeeId, workshopId))));
+    }
+
+    private Long saveWorkshop(LocalDate startDate, WorkshopState state, Integer seatCapacity) {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle("Registration status workshop");
+        workshop.setCreatedDate(LocalDate.now().minusDays(10));
+        workshop.setStartDate(startDate);
+        workshop.setEndDate(startDate.plusDays(1));
+        workshop.setWorkshopState(state);
+        workshop.setSeatCapacity(seatCapacity);
+        return workshopRepo.save(workshop).getWorkshopId();
+    }
+
+    private Long saveAttendee(int index) {
+        Attendee attendee = new Attendee();
+        attendee.setAttendeeName("Registration Attendee " + index);
+        attendee.setAttendeeEmail("registration" + index + "@example.com");
+        attendee.setAttendeePhoneNumber(String.valueOf(8200000000L + index));
+        attendee.setAttendeePassword("password");
+        return attendeeRepo.save(attendee).getAttendeeId();
+    }
+}
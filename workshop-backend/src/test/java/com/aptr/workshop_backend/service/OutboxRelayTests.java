@@ -0,0 +1,249 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.DomainEventDto;
+import com.aptr.workshop_backend.dto.FeedbackDto;
+import com.aptr.workshop_backend.dto.OutboxFailureDto;
+import com.aptr.workshop_backend.dto.WorkshopRegistrationRequestDto;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.OutboxEvent;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.DomainEventType;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.exception.ConflictException;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.OutboxEventRepo;
+import com.aptr.workshop_backend.repository.WorkshopFeedbackStatsRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class OutboxRelayTests {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private RecordingSubscriber subscriber;
+    @Autowired
+    private WorkshopService workshopService;
+    @Autowired
+    private WorkshopStateUpdater workshopStateUpdater;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private WorkshopFeedbackStatsRepo feedbackStatsRepo;
+    @Autowired
+    private OutboxEventRepo outboxEventRepo;
+
+    @BeforeEach
+    void reset() {
+        outboxEventRepo.deleteAll();
+        subscriber.received.clear();
+        subscriber.failOnce.clear();
+        subscriber.failAlways.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepo.deleteAll();
+        feedbackStatsRepo.deleteAll();
+        registrationRepo.deleteAll();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void committedChangesAreDeliveredOnceInOrderAndRolledBackOnesNever() {
+        Long workshopId = saveWorkshop(LocalDate.now().plusDays(1)).getWorkshopId();
+        Long attendeeId = saveAttendee(0).getAttendeeId();
+        WorkshopRegistrationRequestDto registration = new WorkshopRegistrationRequestDto(attendeeId, workshopId);
+
+        workshopService.registerAttendeeToWorkshop(registration);
+        assertThatThrownBy(() -> workshopService.registerAttendeeToWorkshop(registration))
+                .isInstanceOf(ConflictException.class);
+        workshopService.deregisterAttendeeFromWorkshop(registration);
+        workshopService.bulkRegisterAttendees(List.of(registration));
+
+        assertThat(outboxRelay.drain()).isEqualTo(3);
+        assertThat(subscriber.received).extracting(DomainEventDto::eventType, DomainEventDto::workshopId, DomainEventDto::attendeeId)
+                .containsExactly(
+                        tuple(DomainEventType.REGISTERED, workshopId, attendeeId),
+                        tuple(DomainEventType.DEREGISTERED, workshopId, attendeeId),
+                        tuple(DomainEventType.REGISTERED, workshopId, attendeeId));
+        assertThat(outboxRelay.drain()).isZero();
+        assertThat(subscriber.received).hasSize(3);
+    }
+
+    @Test
+    void failedDeliveryHoldsBackOnlyItsWorkshopAndIsRetried() {
+        Long first = saveWorkshop(LocalDate.now().plusDays(1)).getWorkshopId();
+        Long second = saveWorkshop(LocalDate.now().plusDays(1)).getWorkshopId();
+        List<Long> attendees = List.of(saveAttendee(0).getAttendeeId(), saveAttendee(1).getAttendeeId());
+        for (Long attendeeId : attendees) {
+            workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(attendeeId, first));
+            workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(attendeeId, second));
+        }
+        subscriber.failOnce.add(first);
+
+        assertThat(outboxRelay.drain()).isEqualTo(2);
+        assertThat(subscriber.received).extracting(DomainEventDto::workshopId).containsOnly(second);
+
+        // Waiting out its backoff, the failed event is neither retried nor overtaken
+        assertThat(outboxRelay.drain()).isZero();
+        elapseBackoff();
+        assertThat(outboxRelay.drain()).isEqualTo(2);
+        assertThat(subscriber.received).filteredOn(event -> event.workshopId().equals(first))
+                .extracting(DomainEventDto::attendeeId).containsExactlyElementsOf(attendees);
+        assertThat(outboxRelay.stats().pending()).isZero();
+        assertThat(outboxRelay.stats().deliveryFailures()).isPositive();
+    }
+
+    @Test
+    void parkedEventHoldsBackItsWorkshopUntilRetriedOrDiscarded() {
+        Long workshopId = saveWorkshop(LocalDate.now().plusDays(1)).getWorkshopId();
+        List<Long> attendees = List.of(saveAttendee(0).getAttendeeId(), saveAttendee(1).getAttendeeId(),
+                saveAttendee(2).getAttendeeId());
+        for (Long attendeeId : attendees) {
+            workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(attendeeId, workshopId));
+        }
+        subscriber.failAlways.add(workshopId);
+        Long firstEventId = park();
+
+        elapseBackoff();
+        assertThat(outboxRelay.drain()).isZero();
+        assertThat(outboxRelay.failedEvents()).extracting(OutboxFailureDto::eventId).containsExactly(firstEventId);
+
+        subscriber.failAlways.clear();
+        outboxRelay.retryFailed(firstEventId);
+        assertThat(outboxRelay.drain()).isEqualTo(3);
+        assertThat(subscriber.received).extracting(DomainEventDto::attendeeId).containsExactlyElementsOf(attendees);
+
+        Long attendeeId = saveAttendee(3).getAttendeeId();
+        workshopService.deregisterAttendeeFromWorkshop(new WorkshopRegistrationRequestDto(attendees.get(0), workshopId));
+        workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(attendeeId, workshopId));
+        subscriber.failAlways.add(workshopId);
+        Long deregisteredEventId = park();
+        subscriber.failAlways.clear();
+        outboxRelay.discardFailed(deregisteredEventId);
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+        assertThat(subscriber.received).last().extracting(DomainEventDto::attendeeId).isEqualTo(attendeeId);
+        assertThat(outboxRelay.stats().failed()).isZero();
+    }
+
+    @Test
+    void aFullBatchOfABlockedWorkshopDoesNotHoldBackOthers() {
+        Long blocked = saveWorkshop(LocalDate.now().plusDays(1)).getWorkshopId();
+        Long other = saveWorkshop(LocalDate.now().plusDays(1)).getWorkshopId();
+        List<WorkshopRegistrationRequestDto> registrations = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            registrations.add(new WorkshopRegistrationRequestDto(saveAttendee(i).getAttendeeId(), blocked));
+        }
+        workshopService.bulkRegisterAttendees(registrations);
+        workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(saveAttendee(150).getAttendeeId(), other));
+        subscriber.failAlways.add(blocked);
+
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+        assertThat(subscriber.received).extracting(DomainEventDto::workshopId).containsExactly(other);
+        assertThat(outboxEventRepo.findAll()).filteredOn(event -> event.getAttempts() > 0).hasSize(1);
+    }
+
+    @Test
+    void stateTransitionsAndFeedbackAreAnnounced() {
+        Workshop workshop = saveWorkshop(LocalDate.now().minusDays(3));
+        workshop.setEndDate(LocalDate.now().minusDays(1));
+        workshop = workshopRepo.save(workshop);
+        Long attendeeId = saveAttendee(0).getAttendeeId();
+        workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(attendeeId, workshop.getWorkshopId()));
+
+        assertThat(workshopStateUpdater.applyTransitions(List.of(workshop.getWorkshopId()))).isEqualTo(1);
+        assertThat(workshopStateUpdater.applyTransitions(List.of(workshop.getWorkshopId()))).isZero();
+        workshopService.submitFeedback(new FeedbackDto(attendeeId, workshop.getWorkshopId(), 4, "Good"));
+
+        outboxRelay.drain();
+        assertThat(subscriber.received).extracting(DomainEventDto::eventType, DomainEventDto::previousState,
+                        DomainEventDto::workshopState, DomainEventDto::rating)
+                .containsExactly(
+                        tuple(DomainEventType.REGISTERED, null, null, null),
+                        tuple(DomainEventType.WORKSHOP_STATE_CHANGED, WorkshopState.UPCOMING, WorkshopState.COMPLETED, null),
+                        tuple(DomainEventType.FEEDBACK_SUBMITTED, null, null, 4));
+    }
+
+    // Fails the oldest pending event until it uses up its attempts and is parked as FAILED
+    private Long park() {
+        int failed = 0;
+        while (outboxRelay.stats().failed() == 0) {
+            assertThat(outboxRelay.drain()).isZero();
+            elapseBackoff();
+            assertThat(++failed).isLessThanOrEqualTo(10);
+        }
+        return outboxRelay.failedEvents().get(0).eventId();
+    }
+
+    private void elapseBackoff() {
+        List<OutboxEvent> events = outboxEventRepo.findAll();
+        events.forEach(event -> event.setNextAttemptAt(null));
+        outboxEventRepo.saveAll(events);
+    }
+
+    private Workshop saveWorkshop(LocalDate startDate) {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle("Outbox workshop");
+        workshop.setCreatedDate(LocalDate.now());
+        workshop.setStartDate(startDate);
+        workshop.setEndDate(startDate.plusDays(5));
+        workshop.setWorkshopState(WorkshopState.UPCOMING);
+        return workshopRepo.save(workshop);
+    }
+
+    private Attendee saveAttendee(int index) {
+        Attendee attendee = new Attendee();
+        attendee.setAttendeeName("Outbox Attendee " + index);
+        attendee.setAttendeeEmail("outbox" + index + "@example.com");
+        attendee.setAttendeePhoneNumber(String.valueOf(9200000000L + index));
+        attendee.setAttendeePassword("password");
+        return attendeeRepo.save(attendee);
+    }
+
+    static class RecordingSubscriber implements DomainEventSubscriber {
+        final List<DomainEventDto> received = new CopyOnWriteArrayList<>();
+        final Set<Long> failOnce = new HashSet<>();
+        final Set<Long> failAlways = new HashSet<>();
+
+        @Override
+        public void onEvent(DomainEventDto event) {
+            if (failOnce.remove(event.workshopId()) || failAlways.contains(event.workshopId())) {
+                throw new IllegalStateException("Subscriber unavailable");
+            }
+            received.add(event);
+        }
+    }
+
+    @TestConfiguration
+    static class SubscriberConfig {
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void rejectsRequestsBeyondThePoolAndQueue() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 4, 1, 1, 3);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("running"));
+        started.await(10, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("queued"));
+        while (service.queuedHashes() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> service.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .satisfies(e -> assertThat(((ServiceUnavailableException) e).getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.counter("workshop.password.hashing.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS)).startsWith("$2a$04$");
+        assertThat(queued.get(10, TimeUnit.SECONDS)).startsWith("$2a$04$");
+    }
+
+    @Test
+    void rehashesPasswordsStoredWithAnotherWorkFactor() throws Exception {
+        PasswordEncoder encoder = new BCryptPasswordEncoder(5);
+        service = new PasswordHashingService(encoder, meterRegistry, 5, 1, 4, 1);
+        String current = encoder.encode("secret");
+        String outdated = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertThat(service.needsRehash(current)).isFalse();
+        assertThat(service.needsRehash(outdated)).isTrue();
+        assertThat(service.matches("secret", outdated)).isTrue();
+
+        AtomicReference<String> stored = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        service.rehashIfOutdated("secret", outdated, newHash -> {
+            stored.set(newHash);
+            done.countDown();
+        });
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(stored.get()).startsWith("$2a$05$");
+        assertThat(encoder.matches("secret", stored.get())).isTrue();
+    }
+}
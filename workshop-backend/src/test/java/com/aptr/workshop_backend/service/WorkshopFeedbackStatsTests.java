@@ -0,0 +1,138 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.DomainEventDto;
+import com.aptr.workshop_backend.dto.FeedbackDto;
+import com.aptr.workshop_backend.dto.WorkshopFeedbackStatsDto;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.AttendeeWorkshopRegistration;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.DomainEventType;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.exception.ConflictException;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.OutboxEventRepo;
+import com.aptr.workshop_backend.repository.WorkshopFeedbackStatsRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class WorkshopFeedbackStatsTests {
+
+    @Autowired
+    private WorkshopService workshopService;
+    @Autowired
+    private WorkshopFeedbackStatsService feedbackStatsService;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+    @Autowired
+    private WorkshopFeedbackStatsRepo feedbackStatsRepo;
+    @Autowired
+    private OutboxEventRepo outboxEventRepo;
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepo.deleteAll();
+        feedbackStatsRepo.deleteAll();
+        registrationRepo.deleteAll();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void submittedFeedbackMatchesAFullRebuild() {
+        Long workshopId = saveCompletedWorkshop();
+        submitRatings(workshopId, 5, 4, 4, 0, 2);
+
+        Long firstAttendeeId = registrationRepo.findAll().get(0).getAttendee().getAttendeeId();
+        assertThatThrownBy(() -> workshopService.submitFeedback(new FeedbackDto(firstAttendeeId, workshopId, 1, "again")))
+                .isInstanceOf(ConflictException.class);
+
+        // The statistics follow the relayed events, not the request
+        assertThat(feedbackStatsService.getStats(workshopId).feedbackCount()).isZero();
+        assertThat(outboxRelay.drain()).isEqualTo(5);
+
+        WorkshopFeedbackStatsDto incremental = feedbackStatsService.getStats(workshopId);
+        assertThat(incremental.feedbackCount()).isEqualTo(5);
+        assertThat(incremental.averageRating()).isEqualTo(3.0);
+        assertThat(incremental.minRating()).isZero();
+        assertThat(incremental.maxRating()).isEqualTo(5);
+        assertThat(incremental.ratingHistogram()).isEqualTo(List.of(1L, 0L, 1L, 0L, 2L, 1L));
+
+        feedbackStatsService.rebuild();
+        assertThat(feedbackStatsService.getStats(workshopId)).isEqualTo(incremental);
+        assertThat(workshopService.getWorkshopFeedback(workshopId).averageRating()).isEqualTo(3.0);
+    }
+
+    @Test
+    void redeliveredAndRebuiltFeedbackIsCountedOnce() {
+        Long workshopId = saveCompletedWorkshop();
+        submitRatings(workshopId, 3, 5);
+
+        // A rebuild before the relay ran already counts both ratings, so their events change nothing
+        feedbackStatsService.rebuild();
+        assertThat(outboxRelay.drain()).isEqualTo(2);
+        assertThat(feedbackStatsService.getStats(workshopId).feedbackCount()).isEqualTo(2);
+
+        submitRatings(workshopId, 1);
+        DomainEventDto event = outboxEventRepo.findPending(Instant.now(), Limit.of(1)).get(0);
+        assertThat(event.eventType()).isEqualTo(DomainEventType.FEEDBACK_SUBMITTED);
+        feedbackStatsService.onEvent(event);
+        feedbackStatsService.onEvent(event);
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+
+        WorkshopFeedbackStatsDto stats = feedbackStatsService.getStats(workshopId);
+        assertThat(stats.feedbackCount()).isEqualTo(3);
+        assertThat(stats.averageRating()).isEqualTo(3.0);
+        assertThat(stats.ratingHistogram()).isEqualTo(List.of(0L, 1L, 0L, 1L, 0L, 1L));
+    }
+
+    private Long saveCompletedWorkshop() {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle("Completed workshop");
+        workshop.setStartDate(LocalDate.now().minusDays(3));
+        workshop.setEndDate(LocalDate.now().minusDays(1));
+        workshop.setWorkshopState(WorkshopState.COMPLETED);
+        return workshopRepo.save(workshop).getWorkshopId();
+    }
+
+    private void submitRatings(Long workshopId, int... ratings) {
+        Workshop workshop = workshopRepo.findById(workshopId).orElseThrow();
+        long raters = attendeeRepo.count();
+        for (int rating : ratings) {
+            long i = raters++;
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName("Rater " + i);
+            attendee.setAttendeeEmail("rater" + i + "@example.com");
+            attendee.setAttendeePhoneNumber("80000000" + i);
+            attendee.setAttendeePassword("password");
+            attendee = attendeeRepo.save(attendee);
+
+            AttendeeWorkshopRegistration registration = new AttendeeWorkshopRegistration();
+            registration.setAttendee(attendee);
+            registration.setWorkshop(workshop);
+            registration.setRegistrationTime(new Date());
+            registrationRepo.save(registration);
+
+            workshopService.submitFeedback(new FeedbackDto(attendee.getAttendeeId(), workshopId, rating, "comment " + i));
+        }
+    }
+}
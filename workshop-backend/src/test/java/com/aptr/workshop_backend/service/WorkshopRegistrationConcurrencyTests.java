@@ -0,0 +1,174 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.WorkshopDto;
+import com.aptr.workshop_backend.dto.WorkshopRegistrationRequestDto;
+import com.aptr.workshop_backend.entity.Attendee;
+import com.aptr.workshop_backend.entity.Workshop;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import com.aptr.workshop_backend.exception.BadRequestException;
+import com.aptr.workshop_backend.exception.ConflictException;
+import com.aptr.workshop_backend.repository.AttendeeRepo;
+import com.aptr.workshop_backend.repository.AttendeeWorkshopRegistrationRepo;
+import com.aptr.workshop_backend.repository.WorkshopRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class WorkshopRegistrationConcurrencyTests {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private WorkshopService workshopService;
+    @Autowired
+    private WorkshopRepo workshopRepo;
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+    @Autowired
+    private AttendeeWorkshopRegistrationRepo registrationRepo;
+
+    @AfterEach
+    void cleanUp() {
+        registrationRepo.deleteAll();
+        workshopRepo.deleteAll();
+        attendeeRepo.deleteAll();
+    }
+
+    @Test
+    void burstOfRegistrationsNeverOversells() throws Exception {
+        Workshop workshop = saveWorkshop(100);
+        List<Attendee> attendees = saveAttendees(2000);
+
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (Attendee attendee : attendees) {
+            attempts.add(() -> register(attendee.getAttendeeId(), workshop.getWorkshopId()));
+        }
+        long successes = runConcurrently(attempts);
+
+        assertThat(successes).isEqualTo(100);
+        assertThat(workshopRepo.findById(workshop.getWorkshopId()).orElseThrow().getSeatsBooked()).isEqualTo(100);
+        assertThat(registrationRepo.findAttendeesByWorkshopId(workshop.getWorkshopId())).hasSize(100);
+    }
+
+    @Test
+    void duplicateRegistrationsFromOneAttendeeProduceOneRow() throws Exception {
+        Workshop workshop = saveWorkshop(null);
+        Attendee attendee = saveAttendees(1).get(0);
+
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            attempts.add(() -> register(attendee.getAttendeeId(), workshop.getWorkshopId()));
+        }
+        long successes = runConcurrently(attempts);
+
+        assertThat(successes).isEqualTo(1);
+        assertThat(workshopRepo.findById(workshop.getWorkshopId()).orElseThrow().getSeatsBooked()).isEqualTo(1);
+        assertThat(registrationRepo.findAttendeesByWorkshopId(workshop.getWorkshopId())).hasSize(1);
+    }
+
+    @Test
+    void deregistrationReleasesTheSeat() {
+        Workshop workshop = saveWorkshop(1);
+        List<Attendee> attendees = saveAttendees(2);
+        WorkshopRegistrationRequestDto first =
+                new WorkshopRegistrationRequestDto(attendees.get(0).getAttendeeId(), workshop.getWorkshopId());
+
+        workshopService.registerAttendeeToWorkshop(first);
+        assertThat(register(attendees.get(1).getAttendeeId(), workshop.getWorkshopId())).isFalse();
+
+        workshopService.deregisterAttendeeFromWorkshop(first);
+        assertThat(register(attendees.get(1).getAttendeeId(), workshop.getWorkshopId())).isTrue();
+    }
+
+    @Test
+    void savingAStaleWorkshopKeepsTheBookedSeats() {
+        Workshop workshop = saveWorkshop(2);
+        Attendee attendee = saveAttendees(1).get(0);
+        assertThat(register(attendee.getAttendeeId(), workshop.getWorkshopId())).isTrue();
+
+        // The entity was loaded before the registration and still says no seat is booked
+        workshop.setWorkshopTitle("Renamed workshop");
+        workshopRepo.save(workshop);
+        assertThat(workshopRepo.findById(workshop.getWorkshopId()).orElseThrow().getSeatsBooked()).isEqualTo(1);
+
+        assertThatThrownBy(() -> workshopService.editWorkshop(workshop.getWorkshopId(),
+                new WorkshopDto(null, null, null, null, null, null, null, null, null, 0, null)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("1 seats already booked");
+        workshopService.softDeleteWorkshop(workshop.getWorkshopId());
+        assertThat(workshopRepo.findById(workshop.getWorkshopId()).orElseThrow().getSeatsBooked()).isEqualTo(1);
+    }
+
+    private boolean register(Long attendeeId, Long workshopId) {
+        try {
+            workshopService.registerAttendeeToWorkshop(new WorkshopRegistrationRequestDto(attendeeId, workshopId));
+            return true;
+        } catch (ConflictException e) {
+            return false;
+        }
+    }
+
+    private long runConcurrently(List<Callable<Boolean>> attempts) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Callable<Boolean> attempt : attempts) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return attempt.call();
+                }));
+            }
+            start.countDown();
+
+            long successes = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(60, TimeUnit.SECONDS)) {
+                    successes++;
+                }
+            }
+            return successes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Workshop saveWorkshop(Integer seatCapacity) {
+        Workshop workshop = new Workshop();
+        workshop.setWorkshopTitle("Concurrency workshop");
+        workshop.setCreatedDate(LocalDate.now());
+        workshop.setStartDate(LocalDate.now().plusDays(1));
+        workshop.setEndDate(LocalDate.now().plusDays(2));
+        workshop.setWorkshopState(WorkshopState.UPCOMING);
+        workshop.setSeatCapacity(seatCapacity);
+        return workshopRepo.save(workshop);
+    }
+
+    private List<Attendee> saveAttendees(int count) {
+        List<Attendee> attendees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Attendee attendee = new Attendee();
+            attendee.setAttendeeName("Attendee " + i);
+            attendee.setAttendeeEmail("attendee" + i + "@example.com");
+            attendee.setAttendeePhoneNumber(String.valueOf(9000000000L + i));
+            attendee.setAttendeePassword("password");
+            attendees.add(attendee);
+        }
+        return attendeeRepo.saveAll(attendees);
+    }
+}
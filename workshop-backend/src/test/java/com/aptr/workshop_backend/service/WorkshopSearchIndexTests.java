@@ -0,0 +1,88 @@
+package com.aptr.workshop_backend.service;
+
+import com.aptr.workshop_backend.dto.WorkshopSearchHitDto;
+import com.aptr.workshop_backend.dto.WorkshopSearchResultDto;
+import com.aptr.workshop_backend.enums.WorkshopState;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkshopSearchIndexTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private final WorkshopSearchIndex index = new WorkshopSearchIndex();
+
+    @Test
+    void titleMatchesOutrankDescriptionMatchesAndAccentsAreFolded() {
+        index.put(document(1L, "Cooking basics", "Kitchen", "Learn to cook", "Spring vegetables and knife skills", List.of("Ana"), 5));
+        index.put(document(2L, "Spring Boot in depth", "Java", "Build services", "Controllers and data access", List.of("Zoë Müller"), 5));
+        index.put(document(3L, "Gardening", "Outdoors", "Grow things", "Plant in spring for summer", List.of("Bob"), 5));
+
+        assertThat(ids(search("spring", null))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(search("ZOE muller", null))).containsExactly(2L);
+    }
+
+    @Test
+    void everyTokenMustMatchAndTheLastMayBeAPrefix() {
+        index.put(document(1L, "Java concurrency", "Java", null, "Threads, locks and executors", List.of(), 5));
+        index.put(document(2L, "JavaScript tooling", "Web", null, "Bundlers and linters", List.of(), 5));
+        index.put(document(3L, "Java persistence", "Java", null, "JPA and transactions", List.of(), 5));
+
+        List<Long> java = ids(search("java", null));
+        assertThat(java).hasSize(3);
+        assertThat(java.subList(0, 2)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(search("java conc", null))).containsExactly(1L);
+        assertThat(ids(search("java cobol", null))).isEmpty();
+        assertThat(search("the and", null).totalMatches()).isZero();
+    }
+
+    @Test
+    void stateAndDateRangeFilterTheMatches() {
+        index.put(document(1L, "Design sprint", null, null, null, List.of(), -5));
+        index.put(document(2L, "Design review", null, null, null, List.of(), 0));
+        index.put(document(3L, "Design systems", null, null, null, List.of(), 20));
+
+        assertThat(ids(search("design", WorkshopState.UPCOMING))).containsExactly(3L);
+        assertThat(search("design", WorkshopState.ONGOING).hits()).extracting(WorkshopSearchHitDto::workshopState)
+                .containsExactly(WorkshopState.ONGOING);
+        WorkshopSearchResultDto march = index.search("design", null, TODAY, TODAY.plusDays(5), TODAY, 10);
+        assertThat(ids(march)).containsExactlyInAnyOrder(2L);
+    }
+
+    @Test
+    void reindexedAndRemovedWorkshopsDisappearFromResultsAcrossCompactions() {
+        for (long id = 1; id <= 3000; id++) {
+            index.put(document(id, "Workshop " + id, "Topic", null, "Shared words", List.of(), 5));
+        }
+        for (long id = 1; id <= 3000; id++) {
+            if (id % 2 == 0) {
+                index.remove(id);
+            } else {
+                index.put(document(id, "Renamed " + id, "Topic", null, "Shared words", List.of(), 5));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(1500);
+        assertThat(search("workshop", null).totalMatches()).isZero();
+        assertThat(search("renamed", null).totalMatches()).isEqualTo(1500);
+        assertThat(ids(search("renamed 2999", null))).containsExactly(2999L);
+    }
+
+    private WorkshopSearchResultDto search(String query, WorkshopState state) {
+        return index.search(query, state, null, null, TODAY, 10);
+    }
+
+    private static List<Long> ids(WorkshopSearchResultDto result) {
+        return result.hits().stream().map(WorkshopSearchHitDto::workshopId).toList();
+    }
+
+    private static WorkshopSearchIndex.Document document(Long id, String title, String topic, String objective,
+                                                         String description, List<String> tutors, int startsInDays) {
+        LocalDate start = TODAY.plusDays(startsInDays);
+        return new WorkshopSearchIndex.Document(id, title, topic, objective, description, tutors, start, start.plusDays(2));
+    }
+}
@@ -0,0 +1,265 @@
+package com.aptr.workshop_backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkshopStateSchedulerTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 10);
+
+    private final FakeTaskScheduler taskScheduler = new FakeTaskScheduler(TODAY);
+    private final RecordingUpdater updater = new RecordingUpdater();
+    private final WorkshopStateScheduler scheduler = new WorkshopStateScheduler(null, updater, taskScheduler);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void wakesUpAtTheStartAndAfterTheEndOfATrackedWorkshop() {
+        scheduler.track(1L, TODAY.plusDays(2), TODAY.plusDays(3));
+        scheduler.track(2L, TODAY.plusDays(5), TODAY.plusDays(5));
+        assertThat(taskScheduler.pending().at()).isEqualTo(startOf(TODAY.plusDays(2)));
+
+        taskScheduler.runPending();
+        assertThat(updater.applied).containsExactly(List.of(1L));
+        assertThat(taskScheduler.pending().at()).isEqualTo(startOf(TODAY.plusDays(4)));
+
+        taskScheduler.runPending();
+        assertThat(taskScheduler.pending().at()).isEqualTo(startOf(TODAY.plusDays(5)));
+        taskScheduler.runPending();
+        taskScheduler.runPending();
+        assertThat(updater.applied).containsExactly(List.of(1L), List.of(1L), List.of(2L), List.of(2L));
+        assertThat(taskScheduler.hasPending()).isFalse();
+    }
+
+    @Test
+    void untrackingTheOnlyWorkshopCancelsTheWakeUp() {
+        scheduler.track(1L, TODAY.plusDays(2), TODAY.plusDays(3));
+        ScheduledTask wakeUp = taskScheduler.pending();
+
+        scheduler.untrack(1L);
+
+        assertThat(wakeUp.isCancelled()).isTrue();
+        assertThat(taskScheduler.hasPending()).isFalse();
+    }
+
+    @Test
+    void movingAWorkshopIntoThePastForgetsItsOldWindow() {
+        scheduler.track(1L, TODAY.plusDays(2), TODAY.plusDays(3));
+        scheduler.track(1L, TODAY.minusDays(3), TODAY.minusDays(2));
+        assertThat(taskScheduler.hasPending()).isFalse();
+
+        // An edit that commits while the boundary transition is running must win over the old window
+        scheduler.track(1L, TODAY.plusDays(2), TODAY.plusDays(3));
+        updater.beforeApply = () -> scheduler.track(1L, TODAY.minusDays(3), TODAY.minusDays(2));
+        taskScheduler.runPending();
+
+        assertThat(updater.applied).containsExactly(List.of(1L));
+        assertThat(taskScheduler.hasPending()).isFalse();
+    }
+
+    @Test
+    void failedTransitionsAreRetriedAfterADelay() {
+        scheduler.track(1L, TODAY.plusDays(2), TODAY.plusDays(3));
+        updater.failures = 1;
+
+        taskScheduler.runPending();
+        assertThat(updater.applied).isEmpty();
+        assertThat(taskScheduler.pending().at()).isEqualTo(startOf(TODAY.plusDays(2)).plus(Duration.ofMinutes(1)));
+
+        taskScheduler.runPending();
+        assertThat(updater.applied).containsExactly(List.of(1L));
+        assertThat(taskScheduler.pending().at()).isEqualTo(startOf(TODAY.plusDays(4)));
+    }
+
+    @Test
+    void changesMadeInATransactionApplyOnlyOnceItCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        scheduler.track(1L, TODAY.plusDays(2), TODAY.plusDays(3));
+        assertThat(taskScheduler.hasPending()).isFalse();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(taskScheduler.hasPending()).as("rolled back").isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        scheduler.track(2L, TODAY.plusDays(4), TODAY.plusDays(5));
+        assertThat(taskScheduler.hasPending()).isFalse();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(taskScheduler.pending().at()).isEqualTo(startOf(TODAY.plusDays(4)));
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static final class RecordingUpdater extends WorkshopStateUpdater {
+        private final List<List<Long>> applied = new ArrayList<>();
+        private Runnable beforeApply;
+        private int failures;
+
+        RecordingUpdater() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public int applyTransitions(Collection<Long> workshopIds) {
+            if (beforeApply != null) {
+                beforeApply.run();
+                beforeApply = null;
+            }
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("database unavailable");
+            }
+            applied.add(List.copyOf(workshopIds));
+            return workshopIds.size();
+        }
+    }
+
+    // Runs nothing by itself; a test moves the clock to the next pending task and runs it
+    private static final class FakeTaskScheduler implements TaskScheduler {
+        private final List<ScheduledTask> tasks = new ArrayList<>();
+        private Clock clock;
+
+        FakeTaskScheduler(LocalDate today) {
+            this.clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        }
+
+        @Override
+        public Clock getClock() {
+            return clock;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+            ScheduledTask scheduled = new ScheduledTask(task, startTime);
+            tasks.add(scheduled);
+            return scheduled;
+        }
+
+        boolean hasPending() {
+            return tasks.stream().anyMatch(task -> !task.isDone());
+        }
+
+        ScheduledTask pending() {
+            List<ScheduledTask> pending = tasks.stream().filter(task -> !task.isDone()).toList();
+            assertThat(pending).as("pending wake-ups").hasSize(1);
+            return pending.get(0);
+        }
+
+        void runPending() {
+            ScheduledTask task = pending();
+            clock = Clock.fixed(task.at(), ZoneOffset.UTC);
+            task.run();
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class ScheduledTask implements ScheduledFuture<Object> {
+        private final Runnable task;
+        private final Instant at;
+        private boolean cancelled;
+        private boolean done;
+
+        ScheduledTask(Runnable task, Instant at) {
+            this.task = task;
+            this.at = at;
+        }
+
+        Instant at() {
+            return at;
+        }
+
+        void run() {
+            done = true;
+            task.run();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (done) {
+                return false;
+            }
+            cancelled = true;
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public Object get() {
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) {
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
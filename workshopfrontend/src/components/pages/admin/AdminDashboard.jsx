@@ -41,6 +41,7 @@ export default function AdminDashboard() {
   const [activeTab, setActiveTab] = useState("ongoing");
   const [tabIndex, setTabIndex] = useState(0);
   const [workshops, setWorkshops] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [openDialog, setOpenDialog] = useState(false);
   const [detailsDialogOpen, setDetailsDialogOpen] = useState(false);
   const [selectedWorkshop, setSelectedWorkshop] = useState(null);
@@ -77,7 +78,7 @@ export default function AdminDashboard() {
     setActiveTab(tabLabels[newIndex]);
   };
 
-  const fetchWorkshops = async (type) => {
+  const fetchWorkshops = async (type, cursor) => {
     const token = localStorage.getItem("accessToken");
     if (!token) return;
 
@@ -85,15 +86,16 @@ export default function AdminDashboard() {
       let response;
 
       if (type === "upcoming") {
-        response = await workshopApi.getUpcomingWorkshops();
+        response = await workshopApi.getUpcomingWorkshops(cursor);
       } else if (type === "ongoing") {
-        response = await workshopApi.getOngoingWorkshops();
+        response = await workshopApi.getOngoingWorkshops(cursor);
       } else if (type === "completed") {
-        response = await workshopApi.getCompletedWorkshops();
+        response = await workshopApi.getCompletedWorkshops(cursor);
       }
 
-      const formatted = response.data.map((w, i) => ({
-        id: i + 1,
+      const offset = cursor ? workshops.length : 0;
+      const formatted = response.data.content.map((w, i) => ({
+        id: offset + i + 1,
         workshopId: w.workshopId,
         workshopTitle: w.workshopTitle,
         workshopTopic: w.workshopTopic,
@@ -105,7 +107,8 @@ export default function AdminDashboard() {
         workshopTutors: w.workshopTutors,
       }));
 
-      setWorkshops(formatted);
+      setWorkshops(cursor ? [...workshops, ...formatted] : formatted);
+      setNextCursor(response.data.nextCursor);
     } catch (error) {
       console.error("Fetch failed:", error);
       localStorage.removeItem("accessToken");
@@ -341,6 +344,13 @@ export default function AdminDashboard() {
             }}
           />
         </Paper>
+        {nextCursor && (
+          <Box sx={{ display: "flex", justifyContent: "center", mt: 2 }}>
+            <Button variant="outlined" onClick={() => fetchWorkshops(activeTab, nextCursor)}>
+              Load more
+            </Button>
+          </Box>
+        )}
 
         {/* Feedbacks Section */}
         <Box sx={{ mt: 6 }}>
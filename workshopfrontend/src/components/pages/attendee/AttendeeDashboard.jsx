@@ -40,6 +40,7 @@ export default function AttendeeDashboard() {
   const [activeTab, setActiveTab] = useState("ongoing");
   const [tabIndex, setTabIndex] = useState(0);
   const [workshops, setWorkshops] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [registeredIds, setRegisteredIds] = useState([]);
   const [detailsDialogOpen, setDetailsDialogOpen] = useState(false);
   const [selectedWorkshop, setSelectedWorkshop] = useState(null);
@@ -89,7 +90,7 @@ export default function AttendeeDashboard() {
     }
   };
 
-  const fetchWorkshops = async (type) => {
+  const fetchWorkshops = async (type, cursor) => {
     if (!token || !attendeeId) {
       if (location.pathname !== "/login") {
         navigate("/login");
@@ -104,15 +105,18 @@ export default function AttendeeDashboard() {
       if (type === "registered") {
         response = await workshopApi.getRegisteredWorkshops(attendeeId);
       } else if (type === "upcoming") {
-        response = await workshopApi.getUpcomingWorkshops();
+        response = await workshopApi.getUpcomingWorkshops(cursor);
       } else if (type === "ongoing") {
-        response = await workshopApi.getOngoingWorkshops();
+        response = await workshopApi.getOngoingWorkshops(cursor);
       } else if (type === "completed") {
-        response = await workshopApi.getCompletedWorkshops();
+        response = await workshopApi.getCompletedWorkshops(cursor);
       }
 
-      const formatted = (response.data || []).map((w, i) => ({
-        id: i + 1,
+      // Catalog tabs are paged; the registered tab is still a plain list
+      const page = Array.isArray(response.data) ? { content: response.data, nextCursor: null } : response.data;
+      const offset = cursor ? workshops.length : 0;
+      const formatted = (page.content || []).map((w, i) => ({
+        id: offset + i + 1,
         workshopId: Number(w.workshopId),
         workshopTitle: w.workshopTitle,
         workshopTopic: w.workshopTopic,
@@ -124,7 +128,8 @@ export default function AttendeeDashboard() {
         workshopTutors: w.workshopTutors,
       }));
 
-      setWorkshops(formatted);
+      setWorkshops(cursor ? [...workshops, ...formatted] : formatted);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error("Fetch failed:", error);
       if (location.pathname !== "/login") {
@@ -411,6 +416,13 @@ export default function AttendeeDashboard() {
             }}
           />
         </Paper>
+        {nextCursor && (
+          <Box sx={{ display: "flex", justifyContent: "center", mb: 4 }}>
+            <Button variant="outlined" onClick={() => fetchWorkshops(activeTab, nextCursor)}>
+              Load more
+            </Button>
+          </Box>
+        )}
       
         {/* Attended Workshops Section */}
         <Box sx={{ mt: 6 }}>
@@ -58,9 +58,9 @@ api.interceptors.response.use(
 
 export const workshopApi = {
   // Workshop api
-  getUpcomingWorkshops: () => api.get('/workshop/upcoming'),
-  getOngoingWorkshops: () => api.get('/workshop/ongoing'),
-  getCompletedWorkshops: () => api.get('/workshop/completed'),
+  getUpcomingWorkshops: (cursor) => api.get('/workshop/upcoming', { params: { cursor } }),
+  getOngoingWorkshops: (cursor) => api.get('/workshop/ongoing', { params: { cursor } }),
+  getCompletedWorkshops: (cursor) => api.get('/workshop/completed', { params: { cursor } }),
   registerForWorkshop: (workshopId, attendeeId) => api.post('/workshop/register', { workshopId, attendeeId }),
   deregisterFromWorkshop: (workshopId, attendeeId) => api.delete('/workshop/deregister', { 
     data: { workshopId, attendeeId } 